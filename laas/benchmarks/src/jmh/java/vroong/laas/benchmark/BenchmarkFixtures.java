@@ -0,0 +1,161 @@
+package vroong.laas.benchmark;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import vroong.laas.common.event.payload.order.OrderCreatedEventPayload;
+import vroong.laas.common.event.payload.order.OrderItemEventDto;
+import vroong.laas.common.event.payload.order.OrderLocationEventDto;
+import vroong.laas.order.core.enums.order.OrderStatus;
+import vroong.laas.order.core.service.domain.order.Destination;
+import vroong.laas.order.core.service.domain.order.Order;
+import vroong.laas.order.core.service.domain.order.OrderItem;
+import vroong.laas.order.core.service.domain.order.OrderLocation;
+import vroong.laas.order.core.service.domain.order.OrderNumber;
+import vroong.laas.order.core.service.domain.order.Origin;
+import vroong.laas.order.core.service.domain.shared.Address;
+import vroong.laas.order.core.service.domain.shared.Contact;
+import vroong.laas.order.core.service.domain.shared.LatLng;
+import vroong.laas.order.core.service.domain.shared.Money;
+import vroong.laas.readmodel.common.model.OrderAggregate;
+
+/**
+ * 벤치마크 공통 입력 데이터
+ *
+ * <p>실제 주문 한 건과 비슷한 크기(아이템 {@value #ITEM_COUNT}개, 출발지/도착지 주소 포함)로 맞춥니다.
+ * 벤치마크끼리 같은 입력을 쓰도록 한 곳에서 만듭니다.
+ */
+public final class BenchmarkFixtures {
+
+  public static final int ITEM_COUNT = 3;
+
+  private static final long ORDER_ID = 1L;
+  private static final String ORDER_NUMBER = "ORD-20250101-0001";
+  private static final Instant ORDERED_AT = Instant.parse("2025-01-01T00:00:00Z");
+
+  private BenchmarkFixtures() {
+  }
+
+  /**
+   * 주문 생성 이벤트 payload
+   */
+  public static OrderCreatedEventPayload orderCreatedPayload() {
+    OrderLocationEventDto origin = OrderLocationEventDto.builder()
+        .contactName("홍길동")
+        .contactPhoneNumber("010-1234-5678")
+        .latitude(new BigDecimal("37.5665000"))
+        .longitude(new BigDecimal("126.9780000"))
+        .jibunAddress("서울특별시 중구 태평로1가 31")
+        .roadAddress("서울특별시 중구 세종대로 110")
+        .detailAddress("1층")
+        .build();
+
+    OrderLocationEventDto destination = OrderLocationEventDto.builder()
+        .contactName("김철수")
+        .contactPhoneNumber("010-9876-5432")
+        .latitude(new BigDecimal("37.4979000"))
+        .longitude(new BigDecimal("127.0276000"))
+        .jibunAddress("서울특별시 강남구 역삼동 858")
+        .roadAddress("서울특별시 강남구 강남대로 396")
+        .detailAddress("10층")
+        .build();
+
+    return OrderCreatedEventPayload.builder()
+        .orderId(ORDER_ID)
+        .orderNumber(ORDER_NUMBER)
+        .orderStatus(OrderStatus.CREATED.name())
+        .originLocation(origin)
+        .destinationLocation(destination)
+        .items(IntStream.rangeClosed(1, ITEM_COUNT)
+            .mapToObj(i -> OrderItemEventDto.builder()
+                .itemName("item-" + i)
+                .quantity(i)
+                .price(new BigDecimal("1000.00").multiply(BigDecimal.valueOf(i)))
+                .build())
+            .toList())
+        .orderedAt(ORDERED_AT)
+        .build();
+  }
+
+  /**
+   * order 도메인 주문 (outbox payload 생성 입력)
+   */
+  public static Order order() {
+    OrderCreatedEventPayload payload = orderCreatedPayload();
+    OrderLocationEventDto origin = payload.getOriginLocation();
+    OrderLocationEventDto destination = payload.getDestinationLocation();
+
+    List<OrderItem> items = payload.getItems().stream()
+        .map(item -> new OrderItem(null, ORDER_ID, item.getItemName(), item.getQuantity(), new Money(item.getPrice())))
+        .toList();
+
+    OrderLocation location = new OrderLocation(
+        null,
+        ORDER_ID,
+        new Origin(
+            new Contact(origin.getContactName(), origin.getContactPhoneNumber()),
+            new Address(origin.getJibunAddress(), origin.getRoadAddress(), origin.getDetailAddress()),
+            new LatLng(origin.getLatitude(), origin.getLongitude())),
+        new Destination(
+            new Contact(destination.getContactName(), destination.getContactPhoneNumber()),
+            new Address(destination.getJibunAddress(), destination.getRoadAddress(), destination.getDetailAddress()),
+            new LatLng(destination.getLatitude(), destination.getLongitude())));
+
+    return new Order(ORDER_ID, OrderNumber.of(ORDER_NUMBER), OrderStatus.CREATED, items, location, ORDERED_AT, null);
+  }
+
+  /**
+   * read-model projection (주문/배차/배송 정보가 모두 채워진 상태)
+   */
+  public static OrderAggregate orderAggregate() {
+    OrderCreatedEventPayload payload = orderCreatedPayload();
+
+    return OrderAggregate.builder()
+        .orderId(ORDER_ID)
+        .dispatchId(10L)
+        .deliveryId(100L)
+        .orderInfo(OrderAggregate.OrderInfo.builder()
+            .orderNumber(payload.getOrderNumber())
+            .orderStatus(payload.getOrderStatus())
+            .originLocation(toAggregateLocation(payload.getOriginLocation()))
+            .destinationLocation(toAggregateLocation(payload.getDestinationLocation()))
+            .items(payload.getItems().stream()
+                .map(item -> OrderAggregate.OrderItem.builder()
+                    .itemName(item.getItemName())
+                    .quantity(item.getQuantity())
+                    .price(item.getPrice())
+                    .build())
+                .toList())
+            .orderedAt(payload.getOrderedAt())
+            .build())
+        .dispatchInfo(OrderAggregate.DispatchInfo.builder()
+            .agentId(1000L)
+            .suggestedFee(new BigDecimal("3500.00"))
+            .requestedAt(ORDERED_AT.plusSeconds(10))
+            .dispatchedAt(ORDERED_AT.plusSeconds(60))
+            .build())
+        .deliveryInfo(OrderAggregate.DeliveryInfo.builder()
+            .deliveryNumber("DLV-20250101-0001")
+            .agentId(1000L)
+            .deliveryFee(new BigDecimal("3500.00"))
+            .deliveryStatus("STARTED")
+            .deliveryStartedAt(ORDERED_AT.plusSeconds(120))
+            .build())
+        .createdAt(ORDERED_AT)
+        .updatedAt(ORDERED_AT.plusSeconds(120))
+        .build();
+  }
+
+  private static OrderAggregate.OrderLocation toAggregateLocation(OrderLocationEventDto location) {
+    return OrderAggregate.OrderLocation.builder()
+        .contactName(location.getContactName())
+        .contactPhoneNumber(location.getContactPhoneNumber())
+        .latitude(location.getLatitude())
+        .longitude(location.getLongitude())
+        .jibunAddress(location.getJibunAddress())
+        .roadAddress(location.getRoadAddress())
+        .detailAddress(location.getDetailAddress())
+        .build();
+  }
+}
@@ -0,0 +1,104 @@
+package vroong.laas.benchmark.event;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import vroong.laas.benchmark.BenchmarkFixtures;
+import vroong.laas.common.event.avro.payload.order.OrderCreatedEventPayload;
+import vroong.laas.common.event.avro.payload.order.OrderItem;
+import vroong.laas.common.event.avro.payload.order.OrderLocation;
+import vroong.laas.common.event.payload.order.OrderLocationEventDto;
+import vroong.laas.common.event.registry.LocalSchemaRegistry;
+import vroong.laas.common.event.util.AvroSerializer;
+import vroong.laas.common.event.util.SchemaIdAvroSerializer;
+
+/**
+ * Avro payload 직렬화/역직렬화 (주문 생성 payload)
+ *
+ * <ul>
+ *   <li>serialize / deserialize: {@link AvroSerializer} (스키마 ID 없음)</li>
+ *   <li>serializeWithSchemaId / deserializeWithSchemaId: {@link SchemaIdAvroSerializer} (5바이트 prefix + 스키마 해석)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AvroSerializerBenchmark {
+
+  private static final int LOCATION_SCALE = 7;
+  private static final int AMOUNT_SCALE = 2;
+
+  private OrderCreatedEventPayload record;
+  private byte[] bytes;
+  private SchemaIdAvroSerializer schemaIdSerializer;
+  private byte[] bytesWithSchemaId;
+
+  @Setup
+  public void setUp() throws IOException {
+    vroong.laas.common.event.payload.order.OrderCreatedEventPayload payload = BenchmarkFixtures.orderCreatedPayload();
+
+    record = OrderCreatedEventPayload.newBuilder()
+        .setOrderId(payload.getOrderId())
+        .setOrderNumber(payload.getOrderNumber())
+        .setOrderStatus(payload.getOrderStatus())
+        .setOriginLocation(toAvro(payload.getOriginLocation()))
+        .setDestinationLocation(toAvro(payload.getDestinationLocation()))
+        .setItems(payload.getItems().stream()
+            .map(item -> OrderItem.newBuilder()
+                .setItemName(item.getItemName())
+                .setQuantity(item.getQuantity())
+                .setPrice(item.getPrice().setScale(AMOUNT_SCALE, RoundingMode.HALF_UP))
+                .build())
+            .toList())
+        .setOrderedAt(payload.getOrderedAt())
+        .build();
+    bytes = AvroSerializer.serialize(record);
+
+    schemaIdSerializer = new SchemaIdAvroSerializer(LocalSchemaRegistry.fromClasspath());
+    bytesWithSchemaId = schemaIdSerializer.serialize(record);
+  }
+
+  @Benchmark
+  public byte[] serialize() throws IOException {
+    return AvroSerializer.serialize(record);
+  }
+
+  @Benchmark
+  public OrderCreatedEventPayload deserialize() throws IOException {
+    return AvroSerializer.deserialize(bytes, OrderCreatedEventPayload.class);
+  }
+
+  @Benchmark
+  public byte[] serializeWithSchemaId() throws IOException {
+    return schemaIdSerializer.serialize(record);
+  }
+
+  @Benchmark
+  public OrderCreatedEventPayload deserializeWithSchemaId() throws IOException {
+    return schemaIdSerializer.deserialize(bytesWithSchemaId, OrderCreatedEventPayload.class);
+  }
+
+  private static OrderLocation toAvro(OrderLocationEventDto location) {
+    return OrderLocation.newBuilder()
+        .setContactName(location.getContactName())
+        .setContactPhoneNumber(location.getContactPhoneNumber())
+        .setLatitude(scale(location.getLatitude()))
+        .setLongitude(scale(location.getLongitude()))
+        .setJibunAddress(location.getJibunAddress())
+        .setRoadAddress(location.getRoadAddress())
+        .setDetailAddress(location.getDetailAddress())
+        .build();
+  }
+
+  private static BigDecimal scale(BigDecimal value) {
+    return value.setScale(LOCATION_SCALE, RoundingMode.HALF_UP);
+  }
+}
@@ -0,0 +1,63 @@
+package vroong.laas.benchmark.event;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import vroong.laas.benchmark.BenchmarkFixtures;
+import vroong.laas.common.event.DataSerializer;
+import vroong.laas.common.event.payload.order.OrderCreatedEventPayload;
+
+/**
+ * DataSerializer (payload 단위 JSON 변환)
+ *
+ * <ul>
+ *   <li>serialize: 객체 → JSON 문자열</li>
+ *   <li>deserializeString / deserializeBytes: JSON 문자열/UTF-8 바이트 → 객체</li>
+ *   <li>convertValue: Map 트리 → 객체 ({@code deserialize(Object, Class)})</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DataSerializerBenchmark {
+
+  private OrderCreatedEventPayload payload;
+  private String json;
+  private byte[] jsonBytes;
+  private Map<?, ?> tree;
+
+  @Setup
+  public void setUp() {
+    payload = BenchmarkFixtures.orderCreatedPayload();
+    json = DataSerializer.serialize(payload);
+    jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+    tree = DataSerializer.deserialize(json, Map.class);
+  }
+
+  @Benchmark
+  public String serialize() {
+    return DataSerializer.serialize(payload);
+  }
+
+  @Benchmark
+  public OrderCreatedEventPayload deserializeString() {
+    return DataSerializer.deserialize(json, OrderCreatedEventPayload.class);
+  }
+
+  @Benchmark
+  public OrderCreatedEventPayload deserializeBytes() {
+    return DataSerializer.deserialize(jsonBytes, OrderCreatedEventPayload.class);
+  }
+
+  @Benchmark
+  public OrderCreatedEventPayload convertValue() {
+    return DataSerializer.deserialize((Object) tree, OrderCreatedEventPayload.class);
+  }
+}
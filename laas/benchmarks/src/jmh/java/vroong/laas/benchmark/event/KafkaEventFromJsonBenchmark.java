@@ -0,0 +1,67 @@
+package vroong.laas.benchmark.event;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import vroong.laas.benchmark.BenchmarkFixtures;
+import vroong.laas.common.event.DataSerializer;
+import vroong.laas.common.event.KafkaEvent;
+import vroong.laas.common.event.KafkaEventPayload;
+import vroong.laas.common.event.KafkaEventSource;
+import vroong.laas.common.event.KafkaEventType;
+
+/**
+ * KafkaEvent 역직렬화 비교
+ *
+ * <ul>
+ *   <li>twoPass: 봉투를 Map 트리로 읽은 뒤 payload를 convertValue로 한 번 더 변환 (기존 방식)</li>
+ *   <li>singlePass: type을 먼저 읽고 payload를 바로 바인딩하는 {@link KafkaEvent#fromJson(String)}</li>
+ *   <li>singlePassFromBytes: Kafka 레코드 바이트를 String으로 바꾸지 않고 읽는 {@link KafkaEvent#fromJson(byte[])}</li>
+ *   <li>recordBytesAsString: 기존 컨슈머처럼 레코드 바이트를 String으로 디코딩한 뒤 읽는 경우</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KafkaEventFromJsonBenchmark {
+
+  private String json;
+  private byte[] jsonBytes;
+
+  @Setup
+  public void setUp() {
+    json = KafkaEvent.of(
+        KafkaEventType.ORDER_ORDER_CREATED, KafkaEventSource.ORDER, BenchmarkFixtures.orderCreatedPayload()).toJson();
+    jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public KafkaEventPayload twoPass() {
+    Map<String, Object> envelope = DataSerializer.deserialize(json, Map.class);
+    KafkaEventType type = KafkaEventType.from((String) envelope.get("type"));
+    return DataSerializer.deserialize(envelope.get("payload"), type.getPayloadClass());
+  }
+
+  @Benchmark
+  public KafkaEvent<KafkaEventPayload> singlePass() {
+    return KafkaEvent.fromJson(json);
+  }
+
+  @Benchmark
+  public KafkaEvent<KafkaEventPayload> recordBytesAsString() {
+    return KafkaEvent.fromJson(new String(jsonBytes, StandardCharsets.UTF_8));
+  }
+
+  @Benchmark
+  public KafkaEvent<KafkaEventPayload> singlePassFromBytes() {
+    return KafkaEvent.fromJson(jsonBytes);
+  }
+}
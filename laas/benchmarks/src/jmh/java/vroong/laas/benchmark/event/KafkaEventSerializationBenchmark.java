@@ -0,0 +1,61 @@
+package vroong.laas.benchmark.event;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import vroong.laas.benchmark.BenchmarkFixtures;
+import vroong.laas.common.event.KafkaEvent;
+import vroong.laas.common.event.KafkaEventPayload;
+import vroong.laas.common.event.KafkaEventSource;
+import vroong.laas.common.event.KafkaEventType;
+
+/**
+ * KafkaEvent 직렬화/역직렬화 (주문 생성 이벤트)
+ *
+ * <ul>
+ *   <li>toJson / fromJson: outbox payload와 JSON 토픽 형식</li>
+ *   <li>toAvro / fromAvro: Avro 토픽 형식 (스키마 ID prefix 포함)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KafkaEventSerializationBenchmark {
+
+  private KafkaEvent<KafkaEventPayload> event;
+  private String json;
+  private byte[] avro;
+
+  @Setup
+  public void setUp() {
+    event = KafkaEvent.of(
+        KafkaEventType.ORDER_ORDER_CREATED, KafkaEventSource.ORDER, BenchmarkFixtures.orderCreatedPayload());
+    json = event.toJson();
+    avro = event.toAvro();
+  }
+
+  @Benchmark
+  public String toJson() {
+    return event.toJson();
+  }
+
+  @Benchmark
+  public KafkaEvent<KafkaEventPayload> fromJson() {
+    return KafkaEvent.fromJson(json);
+  }
+
+  @Benchmark
+  public byte[] toAvro() {
+    return event.toAvro();
+  }
+
+  @Benchmark
+  public KafkaEvent<KafkaEventPayload> fromAvro() {
+    return KafkaEvent.fromAvro(avro);
+  }
+}
@@ -0,0 +1,38 @@
+package vroong.laas.benchmark.order;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import vroong.laas.benchmark.BenchmarkFixtures;
+import vroong.laas.order.core.service.domain.order.Order;
+import vroong.laas.order.core.service.domain.outbox.OutboxEventPayloadGenerator;
+
+/**
+ * 주문 생성 outbox payload 생성 (도메인 → 이벤트 DTO → KafkaEvent JSON)
+ *
+ * <p>주문 생성 트랜잭션 안에서 호출되므로 요청 지연에 그대로 더해집니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OutboxEventPayloadGeneratorBenchmark {
+
+  private OutboxEventPayloadGenerator generator;
+  private Order order;
+
+  @Setup
+  public void setUp() {
+    generator = new OutboxEventPayloadGenerator();
+    order = BenchmarkFixtures.order();
+  }
+
+  @Benchmark
+  public String generateOrderCreatedPayload() {
+    return generator.generateOrderCreatedPayload(order);
+  }
+}
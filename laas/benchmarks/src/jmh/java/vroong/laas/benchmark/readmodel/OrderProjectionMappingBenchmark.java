@@ -0,0 +1,57 @@
+package vroong.laas.benchmark.readmodel;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import vroong.laas.benchmark.BenchmarkFixtures;
+import vroong.laas.readmodel.common.model.OrderAggregate;
+import vroong.laas.readmodel.common.repository.mongo.OrderDocument;
+import vroong.laas.readmodel.common.repository.redis.OrderRedisModel;
+
+/**
+ * read-model projection 저장 모델 매핑
+ *
+ * <p>이벤트 한 건을 반영할 때마다 조회(toAggregate)와 저장(from)이 Redis, MongoDB 각각 한 번씩 일어납니다.
+ * 주문/배차/배송 정보가 모두 채워진 projection 기준입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderProjectionMappingBenchmark {
+
+  private OrderAggregate aggregate;
+  private OrderRedisModel redisModel;
+  private OrderDocument document;
+
+  @Setup
+  public void setUp() {
+    aggregate = BenchmarkFixtures.orderAggregate();
+    redisModel = OrderRedisModel.from(aggregate);
+    document = OrderDocument.from(aggregate);
+  }
+
+  @Benchmark
+  public OrderRedisModel redisModelFrom() {
+    return OrderRedisModel.from(aggregate);
+  }
+
+  @Benchmark
+  public OrderAggregate redisModelToAggregate() {
+    return redisModel.toAggregate();
+  }
+
+  @Benchmark
+  public OrderDocument documentFrom() {
+    return OrderDocument.from(aggregate);
+  }
+
+  @Benchmark
+  public OrderAggregate documentToAggregate() {
+    return document.toAggregate();
+  }
+}
@@ -0,0 +1,135 @@
+package vroong.laas.benchmark.readmodel;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import vroong.laas.benchmark.BenchmarkFixtures;
+import vroong.laas.readmodel.common.config.RedisConfig;
+import vroong.laas.readmodel.common.model.OrderAggregate;
+import vroong.laas.readmodel.common.repository.redis.OrderProjectionRedisRepository;
+
+/**
+ * Redis 다건 쓰기/읽기: 키마다 응답을 기다리는 방식 vs 파이프라인 SET / MGET
+ *
+ * <p>로컬 Redis가 필요합니다 ({@code docker compose -f scripts/docker-compose.yml up -d redis}).
+ * 접속 정보는 환경 변수 {@code BENCHMARK_REDIS_HOST}, {@code BENCHMARK_REDIS_PORT}로 바꿀 수 있습니다 (기본 localhost:6379).
+ *
+ * <p>저장은 버전 비교 스크립트로 하므로, 저장 벤치마크는 호출마다 버전을 올린 projection({@link NextVersion})을 써서
+ * 매번 실제로 값을 씁니다. 버전을 올린 목록을 만드는 시간은 측정에 들어가지 않습니다.
+ *
+ * <p>op 하나는 batchSize건의 저장 또는 조회입니다. 로컬 Redis는 왕복 지연이 작으므로 네트워크를 건너는 운영 환경에서는 차이가 더 커집니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderRedisBatchBenchmark {
+
+  private static final long FIRST_ORDER_ID = 900_000_000L;
+
+  @Param({"10", "100", "500"})
+  private int batchSize;
+
+  private LettuceConnectionFactory connectionFactory;
+  private OrderProjectionRedisRepository repository;
+  private List<OrderAggregate> projections;
+  private List<Long> orderIds;
+  private final AtomicLong version = new AtomicLong();
+
+  @Setup
+  public void setUp() {
+    String host = System.getenv().getOrDefault("BENCHMARK_REDIS_HOST", "localhost");
+    int port = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_REDIS_PORT", "6379"));
+
+    connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+
+    repository = new OrderProjectionRedisRepository(
+        new RedisConfig().reactiveRedisTemplate(connectionFactory, "binary"),
+        Duration.ofMinutes(10),
+        new RedisConfig().orderProjectionCasScript());
+
+    OrderAggregate projection = BenchmarkFixtures.orderAggregate();
+    orderIds = LongStream.range(FIRST_ORDER_ID, FIRST_ORDER_ID + batchSize).boxed().toList();
+    projections = orderIds.stream()
+        .map(orderId -> projection.toBuilder().orderId(orderId).build())
+        .toList();
+
+    // 조회 벤치마크용 데이터 (접속 실패 시 여기서 바로 실패)
+    Set<Long> saved = repository.saveAll(projections).block();
+    if (saved == null || saved.size() != batchSize) {
+      throw new IllegalStateException("Redis is not available: " + host + ":" + port);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    repository.deleteAllByOrderIds(orderIds).block();
+    connectionFactory.destroy();
+  }
+
+  @Benchmark
+  public int sequentialSet(NextVersion next) {
+    int saved = 0;
+    for (OrderAggregate projection : next.projections) {
+      if (repository.save(projection).block() != null) {
+        saved++;
+      }
+    }
+    return saved;
+  }
+
+  @Benchmark
+  public Set<Long> pipelinedSet(NextVersion next) {
+    return repository.saveAll(next.projections).block();
+  }
+
+  @Benchmark
+  public int sequentialGet() {
+    int found = 0;
+    for (Long orderId : orderIds) {
+      if (repository.findByOrderId(orderId).block() != null) {
+        found++;
+      }
+    }
+    return found;
+  }
+
+  @Benchmark
+  public Map<Long, OrderAggregate> multiGet() {
+    return repository.findAllByOrderIds(orderIds).block();
+  }
+
+  /**
+   * 저장 호출마다 저장된 값보다 높은 버전을 단 projection 목록
+   */
+  @State(Scope.Thread)
+  public static class NextVersion {
+
+    private List<OrderAggregate> projections;
+
+    @Setup(Level.Invocation)
+    public void setUp(OrderRedisBatchBenchmark benchmark) {
+      long next = benchmark.version.incrementAndGet();
+      projections = benchmark.projections.stream()
+          .map(projection -> projection.toBuilder().version(next).build())
+          .toList();
+    }
+  }
+}
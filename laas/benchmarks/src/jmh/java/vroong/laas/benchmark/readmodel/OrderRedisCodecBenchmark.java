@@ -0,0 +1,83 @@
+package vroong.laas.benchmark.readmodel;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import vroong.laas.benchmark.BenchmarkFixtures;
+import vroong.laas.readmodel.common.config.RedisConfig;
+import vroong.laas.readmodel.common.repository.redis.BinaryOrderRedisCodec;
+import vroong.laas.readmodel.common.repository.redis.JsonOrderRedisCodec;
+import vroong.laas.readmodel.common.repository.redis.OrderRedisModel;
+
+/**
+ * Redis 값 형식 비교 (snake_case JSON vs 필드 순서 고정 바이너리)
+ *
+ * <p>키 하나당 값 크기는 encode 벤치마크의 보조 카운터 {@code valueBytes}로 결과에 함께 나옵니다.
+ * 주문/배차/배송 정보가 모두 채워진 projection 기준입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderRedisCodecBenchmark {
+
+  private OrderRedisModel model;
+  private JsonOrderRedisCodec jsonCodec;
+  private BinaryOrderRedisCodec binaryCodec;
+  private byte[] json;
+  private byte[] binary;
+
+  @Setup
+  public void setUp() {
+    model = OrderRedisModel.from(BenchmarkFixtures.orderAggregate());
+    jsonCodec = new JsonOrderRedisCodec(new RedisConfig().redisJsonMapper());
+    binaryCodec = new BinaryOrderRedisCodec();
+    json = jsonCodec.encode(model);
+    binary = binaryCodec.encode(model);
+  }
+
+  /**
+   * 인코딩한 값의 크기 (bytes). 스레드 하나 기준으로 키 하나당 값 크기입니다.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class ValueSize {
+
+    public long valueBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      valueBytes = 0;
+    }
+  }
+
+  @Benchmark
+  public byte[] jsonEncode(ValueSize size) {
+    byte[] value = jsonCodec.encode(model);
+    size.valueBytes = value.length;
+    return value;
+  }
+
+  @Benchmark
+  public OrderRedisModel jsonDecode() {
+    return jsonCodec.decode(json);
+  }
+
+  @Benchmark
+  public byte[] binaryEncode(ValueSize size) {
+    byte[] value = binaryCodec.encode(model);
+    size.valueBytes = value.length;
+    return value;
+  }
+
+  @Benchmark
+  public OrderRedisModel binaryDecode() {
+    return binaryCodec.decode(binary);
+  }
+}
@@ -1,8 +1,13 @@
 package vroong.laas.common.event;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.avro.specific.SpecificRecord;
+import vroong.laas.common.event.avro.payload.delivery.DeliveryCancelledEventPayload;
 import vroong.laas.common.event.avro.payload.delivery.DeliveryDeliveredEventPayload;
 import vroong.laas.common.event.avro.payload.delivery.DeliveryPickedUpEventPayload;
 import vroong.laas.common.event.avro.payload.delivery.DeliveryStartedEventPayload;
@@ -14,37 +19,52 @@ import vroong.laas.common.event.avro.payload.delivery.DeliveryStartedEventPayloa
 public enum DeliveryEventType implements EventType {
     
     DELIVERY_STARTED(
+        301,
         "delivery.delivery.started",
         DeliveryStartedEventPayload.class,
         "delivery-event"
     ),
     
     DELIVERY_PICKED_UP(
+        302,
         "delivery.delivery.picked-up",
         DeliveryPickedUpEventPayload.class,
         "delivery-event"
     ),
     
     DELIVERY_DELIVERED(
+        303,
         "delivery.delivery.delivered",
         DeliveryDeliveredEventPayload.class,
         "delivery-event"
+    ),
+
+    DELIVERY_CANCELLED(
+        304,
+        "delivery.delivery.cancelled",
+        DeliveryCancelledEventPayload.class,
+        "delivery-event"
     );
     // 향후 추가:
-    // DELIVERY_CANCELLED("delivery.delivery.cancelled", ...),
     // DELIVERY_FAILED("delivery.delivery.failed", ...),
     // ...
 
+    private static final Map<String, DeliveryEventType> BY_VALUE = Arrays.stream(values())
+        .collect(Collectors.toUnmodifiableMap(DeliveryEventType::getValue, Function.identity()));
+
+    private final int id;
     private final String value;
     private final Class<? extends SpecificRecord> payloadClass;
     @Getter(AccessLevel.NONE)
     private final String topicKey;
 
     DeliveryEventType(
-        String value, 
+        int id,
+        String value,
         Class<? extends SpecificRecord> payloadClass,
         String topicKey
     ) {
+        this.id = id;
         this.value = value;
         this.payloadClass = payloadClass;
         this.topicKey = topicKey;
@@ -63,13 +83,11 @@ public enum DeliveryEventType implements EventType {
             throw new IllegalArgumentException("EventType value is null");
         }
 
-        for (DeliveryEventType type : values()) {
-            if (type.value.equals(value)) {
-                return type;
-            }
+        DeliveryEventType type = BY_VALUE.get(value);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown DeliveryEventType value: " + value);
         }
-
-        throw new IllegalArgumentException("Unknown DeliveryEventType value: " + value);
+        return type;
     }
 
     @Override
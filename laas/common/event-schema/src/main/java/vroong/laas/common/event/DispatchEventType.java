@@ -1,9 +1,14 @@
 package vroong.laas.common.event;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.avro.specific.SpecificRecord;
 import vroong.laas.common.event.avro.payload.dispatch.DispatchDispatchedEventPayload;
+import vroong.laas.common.event.avro.payload.dispatch.DispatchRequestedEventPayload;
 
 /**
  * Dispatch 도메인 이벤트 타입
@@ -11,7 +16,15 @@ import vroong.laas.common.event.avro.payload.dispatch.DispatchDispatchedEventPay
 @Getter
 public enum DispatchEventType implements EventType {
     
+    DISPATCH_REQUESTED(
+        201,
+        "dispatch.dispatch.requested",
+        DispatchRequestedEventPayload.class,
+        "dispatch-event"
+    ),
+
     DISPATCH_DISPATCHED(
+        202,
         "dispatch.dispatch.dispatched",
         DispatchDispatchedEventPayload.class,
         "dispatch-event"
@@ -21,16 +34,22 @@ public enum DispatchEventType implements EventType {
     // DISPATCH_CANCELLED("dispatch.dispatch.cancelled", ...),
     // ...
 
+    private static final Map<String, DispatchEventType> BY_VALUE = Arrays.stream(values())
+        .collect(Collectors.toUnmodifiableMap(DispatchEventType::getValue, Function.identity()));
+
+    private final int id;
     private final String value;
     private final Class<? extends SpecificRecord> payloadClass;
     @Getter(AccessLevel.NONE)
     private final String topicKey;
 
     DispatchEventType(
-        String value, 
+        int id,
+        String value,
         Class<? extends SpecificRecord> payloadClass,
         String topicKey
     ) {
+        this.id = id;
         this.value = value;
         this.payloadClass = payloadClass;
         this.topicKey = topicKey;
@@ -49,13 +68,11 @@ public enum DispatchEventType implements EventType {
             throw new IllegalArgumentException("EventType value is null");
         }
 
-        for (DispatchEventType type : values()) {
-            if (type.value.equals(value)) {
-                return type;
-            }
+        DispatchEventType type = BY_VALUE.get(value);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown DispatchEventType value: " + value);
         }
-
-        throw new IllegalArgumentException("Unknown DispatchEventType value: " + value);
+        return type;
     }
 
     @Override
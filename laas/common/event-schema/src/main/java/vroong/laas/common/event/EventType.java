@@ -9,6 +9,15 @@ import org.apache.avro.specific.SpecificRecord;
  */
 public interface EventType {
     
+    /**
+     * 숫자 이벤트 타입 ID
+     *
+     * 헤더나 Avro 봉투에 문자열 대신 담을 수 있는 고정 ID입니다. 도메인별 대역을 사용합니다.
+     * (order: 1xx, dispatch: 2xx, delivery: 3xx) 한 번 배포한 ID는 바꾸거나 재사용하지 않습니다.
+     * @return 이벤트 타입 ID (예: 101)
+     */
+    int getId();
+
     /**
      * 이벤트 타입 문자열
      * @return 이벤트 타입 (예: "order.order.created")
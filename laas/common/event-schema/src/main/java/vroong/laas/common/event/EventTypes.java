@@ -1,14 +1,39 @@
 package vroong.laas.common.event;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.stream.Stream;
 
 /**
  * 모든 이벤트 타입을 조회하기 위한 유틸리티 클래스
  * 
  * 도메인별로 분리된 EventType을 통합 조회할 때 사용
+ * 문자열/숫자 ID 조회는 클래스 로딩 시 만든 불변 인덱스로 상수 시간에 처리합니다.
  */
 public final class EventTypes {
 
+    private static final Map<String, EventType> BY_VALUE;
+    private static final EventType[] BY_ID;
+
+    static {
+        Map<String, EventType> byValue = new HashMap<>();
+        int maxId = all().mapToInt(EventType::getId).max().orElse(0);
+        EventType[] byId = new EventType[maxId + 1];
+
+        all().forEach(type -> {
+            if (byValue.put(type.getValue(), type) != null) {
+                throw new IllegalStateException("Duplicate EventType value: " + type.getValue());
+            }
+            if (type.getId() <= 0 || byId[type.getId()] != null) {
+                throw new IllegalStateException("Invalid or duplicate EventType id: " + type.getId());
+            }
+            byId[type.getId()] = type;
+        });
+
+        BY_VALUE = Map.copyOf(byValue);
+        BY_ID = byId;
+    }
+
     private EventTypes() {
         // 유틸리티 클래스
     }
@@ -25,16 +50,26 @@ public final class EventTypes {
             throw new IllegalArgumentException("EventType value is null");
         }
 
-        // 도메인 prefix로 빠르게 찾기
-        if (value.startsWith("order.")) {
-            return OrderEventType.from(value);
-        } else if (value.startsWith("delivery.")) {
-            return DeliveryEventType.from(value);
-        } else if (value.startsWith("dispatch.")) {
-            return DispatchEventType.from(value);
+        EventType type = BY_VALUE.get(value);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown EventType value: " + value);
         }
+        return type;
+    }
 
-        throw new IllegalArgumentException("Unknown EventType value: " + value);
+    /**
+     * 숫자 이벤트 타입 ID로부터 EventType 조회
+     *
+     * @param id 이벤트 타입 ID (예: 101)
+     * @return 해당하는 EventType
+     * @throws IllegalArgumentException 매칭되는 이벤트 타입이 없는 경우
+     */
+    public static EventType fromId(int id) {
+        EventType type = id > 0 && id < BY_ID.length ? BY_ID[id] : null;
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown EventType id: " + id);
+        }
+        return type;
     }
 
     /**
@@ -1,8 +1,14 @@
 package vroong.laas.common.event;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.Getter;
 import org.apache.avro.specific.SpecificRecord;
+import vroong.laas.common.event.avro.payload.order.OrderCancelledEventPayload;
 import vroong.laas.common.event.avro.payload.order.OrderCreatedEventPayload;
+import vroong.laas.common.event.avro.payload.order.OrderDestinationChangedEventPayload;
 
 /**
  * Order 도메인 이벤트 타입
@@ -11,25 +17,45 @@ import vroong.laas.common.event.avro.payload.order.OrderCreatedEventPayload;
 public enum OrderEventType implements EventType {
     
     ORDER_CREATED(
+        101,
         "order.order.created",
         OrderCreatedEventPayload.class,
         "order-event"
+    ),
+
+    ORDER_DESTINATION_CHANGED(
+        102,
+        "order.order.destination-changed",
+        OrderDestinationChangedEventPayload.class,
+        "order-event"
+    ),
+
+    ORDER_CANCELLED(
+        103,
+        "order.order.cancelled",
+        OrderCancelledEventPayload.class,
+        "order-event"
     );
     // 향후 추가 예시:
     // ORDER_UPDATED("order.order.updated", OrderUpdatedEventPayload.class, TopicKey.ORDER_MAIN),
-    // ORDER_CANCELLED("order.order.cancelled", OrderCancelledEventPayload.class, TopicKey.ORDER_MAIN),
     // PAYMENT_PROCESSED("order.payment.processed", PaymentProcessedEventPayload.class, TopicKey.ORDER_PAYMENT),
     // ...
 
+    private static final Map<String, OrderEventType> BY_VALUE = Arrays.stream(values())
+        .collect(Collectors.toUnmodifiableMap(OrderEventType::getValue, Function.identity()));
+
+    private final int id;
     private final String value;
     private final Class<? extends SpecificRecord> payloadClass;
     private final String topicKey;
 
     OrderEventType(
-        String value, 
+        int id,
+        String value,
         Class<? extends SpecificRecord> payloadClass,
         String topicKey
     ) {
+        this.id = id;
         this.value = value;
         this.payloadClass = payloadClass;
         this.topicKey = topicKey;
@@ -48,13 +74,11 @@ public enum OrderEventType implements EventType {
             throw new IllegalArgumentException("EventType value is null");
         }
 
-        for (OrderEventType type : values()) {
-            if (type.value.equals(value)) {
-                return type;
-            }
+        OrderEventType type = BY_VALUE.get(value);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown OrderEventType value: " + value);
         }
-
-        throw new IllegalArgumentException("Unknown OrderEventType value: " + value);
+        return type;
     }
 
     @Override
@@ -0,0 +1,172 @@
+package vroong.laas.common.event.registry;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.avro.LogicalType;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+
+/**
+ * 파일 기반 로컬 스키마 레지스트리
+ *
+ * 외부 레지스트리 없이 동작하도록, 빌드 시 {@code registerSchemas} 태스크가 관리하는 레지스트리 파일을 읽어
+ * ID와 스키마를 메모리에 올려 둡니다. 파일은 한 줄에 스키마 하나씩, 탭으로 구분합니다.
+ *
+ * <pre>
+ * {id}\t{subject}\t{version}\t{schema json}
+ * </pre>
+ *
+ * subject는 레코드의 전체 이름이며, 각 스키마는 참조하는 타입을 모두 포함한 self-contained JSON입니다.
+ * 스키마 → ID 조회는 {@link #fingerprint(Schema)}로 하므로, 생성 클래스의 스키마({@code avro.java.string} 같은
+ * 속성 포함)로도 찾을 수 있습니다.
+ * {@link #register(Schema)}로 추가한 스키마는 메모리에만 남습니다 (테스트/임베디드 용도).
+ */
+public class LocalSchemaRegistry implements SchemaRegistry {
+
+    /**
+     * 기본 레지스트리 파일 (클래스패스)
+     */
+    public static final String DEFAULT_RESOURCE = "schema-registry/registry.tsv";
+
+    private final Map<Integer, Schema> schemasById = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> idsByFingerprint = new ConcurrentHashMap<>();
+    private int nextId = 1;
+
+    public LocalSchemaRegistry() {
+    }
+
+    private LocalSchemaRegistry(BufferedReader reader) throws IOException {
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] columns = line.split("\t", 4);
+            if (columns.length != 4) {
+                throw new IllegalStateException("Invalid schema registry line: " + line);
+            }
+
+            int id = Integer.parseInt(columns[0]);
+            Schema schema = new Schema.Parser().parse(columns[3]);
+            if (!schema.getFullName().equals(columns[1])) {
+                throw new IllegalStateException("Schema subject mismatch. id: " + id);
+            }
+            add(id, schema);
+        }
+    }
+
+    /**
+     * 클래스패스의 기본 레지스트리 파일을 읽습니다.
+     */
+    public static LocalSchemaRegistry fromClasspath() {
+        return fromClasspath(DEFAULT_RESOURCE);
+    }
+
+    public static LocalSchemaRegistry fromClasspath(String resource) {
+        InputStream in = LocalSchemaRegistry.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new IllegalStateException("Schema registry resource not found: " + resource);
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return new LocalSchemaRegistry(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static LocalSchemaRegistry fromFile(Path path) {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return new LocalSchemaRegistry(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int getId(Schema schema) {
+        Integer id = idsByFingerprint.get(fingerprint(schema));
+        if (id == null) {
+            throw new IllegalStateException(
+                "Schema not registered: " + schema.getFullName() + " (run ./gradlew :common:event-schema:registerSchemas)");
+        }
+        return id;
+    }
+
+    @Override
+    public Schema getSchema(int id) {
+        Schema schema = schemasById.get(id);
+        if (schema == null) {
+            throw new IllegalArgumentException("Unknown schema id: " + id);
+        }
+        return schema;
+    }
+
+    @Override
+    public synchronized int register(Schema schema) {
+        Integer id = idsByFingerprint.get(fingerprint(schema));
+        if (id != null) {
+            return id;
+        }
+
+        int assigned = nextId;
+        add(assigned, schema);
+        return assigned;
+    }
+
+    private synchronized void add(int id, Schema schema) {
+        if (schemasById.putIfAbsent(id, schema) != null) {
+            throw new IllegalStateException("Duplicate schema id: " + id);
+        }
+        // 바이너리 인코딩과 논리 타입이 같은 스키마(doc, default만 다른 버전)는 처음 ID를 사용
+        idsByFingerprint.putIfAbsent(fingerprint(schema), id);
+        nextId = Math.max(nextId, id + 1);
+    }
+
+    /**
+     * 스키마 지문
+     *
+     * Parsing Canonical Form은 논리 타입을 지우므로 {@code timestamp-millis}와 {@code timestamp-micros}처럼
+     * 인코딩은 같지만 값의 의미가 다른 스키마를 구분하지 못합니다. 그래서 Parsing Canonical Form 뒤에
+     * 필드 순서대로 논리 타입을 덧붙여 지문을 만듭니다. (build.gradle의 {@code isRegistered}와 같은 규칙)
+     */
+    public static long fingerprint(Schema schema) {
+        StringBuilder form = new StringBuilder(SchemaNormalization.toParsingForm(schema));
+        appendLogicalTypes(schema, form, new HashSet<>());
+        return SchemaNormalization.fingerprint64(form.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void appendLogicalTypes(Schema schema, StringBuilder form, Set<String> visited) {
+        LogicalType logicalType = schema.getLogicalType();
+        if (logicalType != null) {
+            form.append('|').append(logicalType.getName());
+            if (logicalType instanceof LogicalTypes.Decimal decimal) {
+                form.append('(').append(decimal.getPrecision()).append(',').append(decimal.getScale()).append(')');
+            }
+        }
+
+        switch (schema.getType()) {
+            case RECORD -> {
+                if (visited.add(schema.getFullName())) {
+                    schema.getFields().forEach(field -> appendLogicalTypes(field.schema(), form, visited));
+                }
+            }
+            case ARRAY -> appendLogicalTypes(schema.getElementType(), form, visited);
+            case MAP -> appendLogicalTypes(schema.getValueType(), form, visited);
+            case UNION -> schema.getTypes().forEach(branch -> appendLogicalTypes(branch, form, visited));
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package vroong.laas.common.event.registry;
+
+import org.apache.avro.Schema;
+
+/**
+ * Avro 스키마 레지스트리
+ *
+ * 스키마마다 숫자 ID를 부여하고, ID로 writer 스키마를 찾습니다.
+ * 직렬화된 메시지 앞에 ID를 붙여 두면 컨슈머는 정확한 writer 스키마로 디코딩할 수 있습니다.
+ */
+public interface SchemaRegistry {
+
+    /**
+     * 스키마 ID 조회
+     *
+     * @param schema 등록된 스키마
+     * @return 스키마 ID
+     * @throws IllegalStateException 등록되지 않은 스키마인 경우
+     */
+    int getId(Schema schema);
+
+    /**
+     * ID로 스키마 조회
+     *
+     * @param id 스키마 ID
+     * @return writer 스키마
+     * @throws IllegalArgumentException 알 수 없는 ID인 경우
+     */
+    Schema getSchema(int id);
+
+    /**
+     * 스키마 등록
+     *
+     * 이미 등록된 스키마면 기존 ID를 반환합니다.
+     *
+     * @param schema 등록할 스키마
+     * @return 스키마 ID
+     */
+    int register(Schema schema);
+}
@@ -2,6 +2,7 @@ package vroong.laas.common.event.util;
 
 import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumReader;
 import org.apache.avro.io.DecoderFactory;
 import org.apache.avro.io.EncoderFactory;
 import org.apache.avro.specific.SpecificDatumReader;
@@ -10,75 +11,195 @@ import org.apache.avro.specific.SpecificRecordBase;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Avro 직렬화/역직렬화 유틸리티
- * 
+ *
  * SpecificRecord 기반의 Avro 객체를 byte[]로 변환하거나
  * byte[]를 Avro 객체로 변환합니다.
+ *
+ * <p>이벤트 발행/소비의 hot path이므로 호출마다 생기는 비용을 줄입니다.
+ * <ul>
+ *   <li>DatumWriter/DatumReader는 클래스별로 한 번만 만들어 공유 (스레드 안전)</li>
+ *   <li>BinaryEncoder/BinaryDecoder와 출력 버퍼는 스레드별로 재사용</li>
+ *   <li>스키마는 생성된 클래스의 정적 스키마를 사용 (인스턴스 생성 없음)</li>
+ * </ul>
  */
 public final class AvroSerializer {
 
+    /**
+     * 스레드별 출력 버퍼를 이보다 크게 붙잡아 두지 않음 (큰 메시지 이후 메모리 반환)
+     */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private static final Map<Class<?>, SpecificDatumWriter<?>> WRITERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, SpecificDatumReader<?>> READERS = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<ReusableOutputStream> BUFFERS =
+            ThreadLocal.withInitial(ReusableOutputStream::new);
+    private static final ThreadLocal<BinaryEncoder> ENCODERS = new ThreadLocal<>();
+    private static final ThreadLocal<BinaryDecoder> DECODERS = new ThreadLocal<>();
+
     private AvroSerializer() {
         // 유틸리티 클래스
     }
 
     /**
      * Avro 객체를 byte[]로 직렬화
-     * 
+     *
      * @param record Avro SpecificRecord 객체
      * @return 직렬화된 byte 배열
      * @throws IOException 직렬화 실패 시
      */
     public static <T extends SpecificRecordBase> byte[] serialize(T record) throws IOException {
-        if (record == null) {
-            throw new IllegalArgumentException("Record cannot be null");
+        return serialize(record, null);
+    }
+
+    /**
+     * prefix 뒤에 Avro 객체를 이어 붙여 직렬화 ({@link SchemaIdAvroSerializer} 용)
+     */
+    static <T extends SpecificRecordBase> byte[] serialize(T record, byte[] prefix) throws IOException {
+        ReusableOutputStream out = write(record, prefix);
+        try {
+            return out.toByteArray();
+        } finally {
+            out.release();
         }
+    }
 
-        SpecificDatumWriter<T> writer = new SpecificDatumWriter<>(record.getSchema());
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
-        
-        writer.write(record, encoder);
-        encoder.flush();
-        out.close();
-        
-        return out.toByteArray();
+    /**
+     * Avro 객체를 ByteBuffer로 직렬화
+     *
+     * <p>다른 Avro 레코드의 bytes 필드에 바로 담을 때 사용합니다.
+     *
+     * @param record Avro SpecificRecord 객체
+     * @return 직렬화된 바이트를 담은 ByteBuffer (position 0, 호출자 소유)
+     * @throws IOException 직렬화 실패 시
+     */
+    public static <T extends SpecificRecordBase> ByteBuffer serializeToByteBuffer(T record) throws IOException {
+        return ByteBuffer.wrap(serialize(record));
     }
 
     /**
      * byte[]를 Avro 객체로 역직렬화
-     * 
+     *
      * @param data 직렬화된 byte 배열
      * @param clazz Avro 클래스 타입
      * @return 역직렬화된 Avro 객체
      * @throws IOException 역직렬화 실패 시
      */
-    public static <T extends SpecificRecordBase> T deserialize(byte[] data, Class<T> clazz) 
+    public static <T extends SpecificRecordBase> T deserialize(byte[] data, Class<T> clazz)
             throws IOException {
         if (data == null || data.length == 0) {
             throw new IllegalArgumentException("Data cannot be null or empty");
         }
 
-        try {
-            T instance = clazz.getDeclaredConstructor().newInstance();
-            SpecificDatumReader<T> reader = new SpecificDatumReader<>(instance.getSchema());
-            BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(data, null);
-            
-            return reader.read(null, decoder);
-        } catch (ReflectiveOperationException e) {
-            throw new IOException("Failed to instantiate Avro class: " + clazz.getName(), e);
+        return read(data, 0, data.length, clazz);
+    }
+
+    /**
+     * ByteBuffer를 Avro 객체로 역직렬화
+     *
+     * <p>heap 버퍼는 복사 없이 position부터 limit까지 읽습니다. 버퍼의 position은 바뀌지 않습니다.
+     *
+     * @param data 직렬화된 바이트를 담은 ByteBuffer
+     * @param clazz Avro 클래스 타입
+     * @return 역직렬화된 Avro 객체
+     * @throws IOException 역직렬화 실패 시
+     */
+    public static <T extends SpecificRecordBase> T deserialize(ByteBuffer data, Class<T> clazz)
+            throws IOException {
+        if (data == null || !data.hasRemaining()) {
+            throw new IllegalArgumentException("Data cannot be null or empty");
         }
+
+        if (data.hasArray()) {
+            return read(data.array(), data.arrayOffset() + data.position(), data.remaining(), clazz);
+        }
+
+        byte[] copy = new byte[data.remaining()];
+        data.duplicate().get(copy);
+        return read(copy, 0, copy.length, clazz);
     }
 
     /**
      * Avro 객체가 유효한지 검증
-     * 
+     *
      * @param record 검증할 Avro 객체
      * @return 유효하면 true
      */
     public static boolean isValid(SpecificRecordBase record) {
         return record != null && record.getSchema() != null;
     }
-}
 
+    @SuppressWarnings("unchecked")
+    private static <T extends SpecificRecordBase> ReusableOutputStream write(T record, byte[] prefix)
+            throws IOException {
+        if (record == null) {
+            throw new IllegalArgumentException("Record cannot be null");
+        }
+
+        SpecificDatumWriter<T> writer = (SpecificDatumWriter<T>) WRITERS.computeIfAbsent(
+                record.getClass(), SpecificDatumWriter::new);
+
+        ReusableOutputStream out = BUFFERS.get();
+        out.reset();
+        if (prefix != null) {
+            out.write(prefix, 0, prefix.length);
+        }
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, ENCODERS.get());
+        ENCODERS.set(encoder);
+
+        try {
+            writer.write(record, encoder);
+            encoder.flush();
+        } catch (IOException | RuntimeException e) {
+            out.release();
+            throw e;
+        }
+        return out;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends SpecificRecordBase> T read(byte[] data, int offset, int length, Class<T> clazz)
+            throws IOException {
+        SpecificDatumReader<T> reader = (SpecificDatumReader<T>) READERS.computeIfAbsent(
+                clazz, SpecificDatumReader::new);
+
+        return read(reader, data, offset, length);
+    }
+
+    /**
+     * 주어진 reader로 역직렬화 (writer/reader 스키마가 다른 경우, {@link SchemaIdAvroSerializer} 용)
+     */
+    static <T> T read(DatumReader<T> reader, byte[] data, int offset, int length) throws IOException {
+        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(data, offset, length, DECODERS.get());
+        DECODERS.set(decoder);
+
+        return reader.read(null, decoder);
+    }
+
+    /**
+     * 내부 배열을 재사용하는 출력 버퍼
+     */
+    private static final class ReusableOutputStream extends ByteArrayOutputStream {
+
+        private ReusableOutputStream() {
+            super(INITIAL_BUFFER_SIZE);
+        }
+
+        /**
+         * 너무 커진 버퍼는 버려서 스레드가 큰 배열을 계속 붙잡지 않게 합니다.
+         */
+        private void release() {
+            if (buf.length > MAX_RETAINED_BUFFER_SIZE) {
+                buf = new byte[INITIAL_BUFFER_SIZE];
+            }
+            reset();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package vroong.laas.common.event.util;
+
+import org.apache.avro.Schema;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificRecordBase;
+import vroong.laas.common.event.registry.SchemaRegistry;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스키마 ID prefix 기반 Avro 직렬화/역직렬화
+ *
+ * 메시지 앞에 writer 스키마 ID를 붙입니다.
+ *
+ * <pre>
+ * [magic byte 0x0][schema id (4 bytes, big-endian)][Avro binary]
+ * </pre>
+ *
+ * <p>컨슈머는 ID로 레지스트리에서 writer 스키마를 찾고, 자신이 가진 생성 클래스의 스키마(reader 스키마)로
+ * 스키마 해석(schema resolution)을 거쳐 읽습니다. 그래서 프로듀서와 컨슈머의 스키마 버전이 달라도
+ * 호환되는 변경이면 디코딩할 수 있습니다.
+ *
+ * <ul>
+ *   <li>클래스별 스키마 ID, (writer ID, reader 클래스)별 DatumReader를 캐시 (레지스트리 조회는 최초 1회)</li>
+ *   <li>인코더/디코더와 출력 버퍼는 {@link AvroSerializer}의 스레드별 인스턴스를 재사용</li>
+ * </ul>
+ */
+public final class SchemaIdAvroSerializer {
+
+    public static final byte MAGIC_BYTE = 0x0;
+    public static final int PREFIX_SIZE = 5;
+
+    private final SchemaRegistry registry;
+    private final Map<Class<?>, byte[]> prefixes = new ConcurrentHashMap<>();
+    private final Map<ReaderKey, SpecificDatumReader<?>> readers = new ConcurrentHashMap<>();
+
+    public SchemaIdAvroSerializer(SchemaRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Avro 객체를 스키마 ID prefix와 함께 직렬화
+     *
+     * @param record Avro SpecificRecord 객체
+     * @return prefix가 붙은 byte 배열
+     * @throws IOException 직렬화 실패 시
+     * @throws IllegalStateException 레지스트리에 등록되지 않은 스키마인 경우
+     */
+    public <T extends SpecificRecordBase> byte[] serialize(T record) throws IOException {
+        if (record == null) {
+            throw new IllegalArgumentException("Record cannot be null");
+        }
+
+        byte[] prefix = prefixes.computeIfAbsent(
+                record.getClass(), clazz -> prefix(registry.getId(record.getSchema())));
+        return AvroSerializer.serialize(record, prefix);
+    }
+
+    /**
+     * Avro 객체를 ByteBuffer로 직렬화 (다른 레코드의 bytes 필드에 담을 때)
+     */
+    public <T extends SpecificRecordBase> ByteBuffer serializeToByteBuffer(T record) throws IOException {
+        return ByteBuffer.wrap(serialize(record));
+    }
+
+    /**
+     * prefix가 붙은 byte[]를 Avro 객체로 역직렬화
+     *
+     * @param data prefix가 붙은 byte 배열
+     * @param clazz Avro 클래스 타입 (reader 스키마)
+     * @return 역직렬화된 Avro 객체
+     * @throws IOException 역직렬화 실패 시
+     */
+    public <T extends SpecificRecordBase> T deserialize(byte[] data, Class<T> clazz) throws IOException {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        return read(data, 0, data.length, clazz);
+    }
+
+    /**
+     * prefix가 붙은 ByteBuffer를 Avro 객체로 역직렬화
+     *
+     * <p>heap 버퍼는 복사 없이 읽습니다. 버퍼의 position은 바뀌지 않습니다.
+     */
+    public <T extends SpecificRecordBase> T deserialize(ByteBuffer data, Class<T> clazz) throws IOException {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        if (data.hasArray()) {
+            return read(data.array(), data.arrayOffset() + data.position(), data.remaining(), clazz);
+        }
+
+        byte[] copy = new byte[data.remaining()];
+        data.duplicate().get(copy);
+        return read(copy, 0, copy.length, clazz);
+    }
+
+    /**
+     * prefix에서 스키마 ID 추출
+     *
+     * @param data prefix가 붙은 byte 배열
+     * @param offset 메시지 시작 위치
+     * @return writer 스키마 ID
+     */
+    public static int readSchemaId(byte[] data, int offset) {
+        if (data.length - offset < PREFIX_SIZE || data[offset] != MAGIC_BYTE) {
+            throw new IllegalArgumentException("Missing schema id prefix");
+        }
+
+        return ((data[offset + 1] & 0xFF) << 24)
+                | ((data[offset + 2] & 0xFF) << 16)
+                | ((data[offset + 3] & 0xFF) << 8)
+                | (data[offset + 4] & 0xFF);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends SpecificRecordBase> T read(byte[] data, int offset, int length, Class<T> clazz)
+            throws IOException {
+        if (length <= PREFIX_SIZE) {
+            throw new IllegalArgumentException("Data cannot be null or empty");
+        }
+
+        int schemaId = readSchemaId(data, offset);
+        SpecificDatumReader<T> reader = (SpecificDatumReader<T>) readers.computeIfAbsent(
+                new ReaderKey(schemaId, clazz), this::createReader);
+
+        return AvroSerializer.read(reader, data, offset + PREFIX_SIZE, length - PREFIX_SIZE);
+    }
+
+    private SpecificDatumReader<?> createReader(ReaderKey key) {
+        Schema writerSchema = registry.getSchema(key.schemaId());
+        SpecificData data = SpecificData.getForClass(key.clazz());
+        return new SpecificDatumReader<>(writerSchema, data.getSchema(key.clazz()), data);
+    }
+
+    private static byte[] prefix(int schemaId) {
+        return new byte[] {
+                MAGIC_BYTE,
+                (byte) (schemaId >>> 24),
+                (byte) (schemaId >>> 16),
+                (byte) (schemaId >>> 8),
+                (byte) schemaId
+        };
+    }
+
+    private record ReaderKey(int schemaId, Class<?> clazz) {
+    }
+}
@@ -0,0 +1,82 @@
+package vroong.laas.common.event.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import org.apache.avro.Schema;
+import org.junit.jupiter.api.Test;
+import vroong.laas.common.event.avro.payload.order.OrderCancelledEventPayload;
+import vroong.laas.common.event.util.SchemaIdAvroSerializer;
+
+class LocalSchemaRegistryTest {
+
+    private static final String MILLIS = """
+            {"type":"record","name":"Sample","namespace":"test","fields":[
+              {"name":"at","type":{"type":"long","logicalType":"timestamp-millis"}}]}""";
+
+    private static final String MICROS = """
+            {"type":"record","name":"Sample","namespace":"test","fields":[
+              {"name":"at","type":{"type":"long","logicalType":"timestamp-micros"}}]}""";
+
+    private final LocalSchemaRegistry registry = LocalSchemaRegistry.fromClasspath();
+
+    @Test
+    void getId_생성_클래스_스키마로_최신_버전_ID를_찾는다() {
+        int id = registry.getId(OrderCancelledEventPayload.getClassSchema());
+
+        assertThat(registry.getSchema(id).getFullName()).isEqualTo(OrderCancelledEventPayload.getClassSchema().getFullName());
+        assertThat(LocalSchemaRegistry.fingerprint(registry.getSchema(id)))
+                .isEqualTo(LocalSchemaRegistry.fingerprint(OrderCancelledEventPayload.getClassSchema()));
+    }
+
+    @Test
+    void getSchema_없는_ID는_예외() {
+        assertThatThrownBy(() -> registry.getSchema(Integer.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown schema id");
+    }
+
+    @Test
+    void fingerprint_논리_타입이_다르면_다른_지문() {
+        Schema millis = new Schema.Parser().parse(MILLIS);
+        Schema micros = new Schema.Parser().parse(MICROS);
+
+        assertThat(LocalSchemaRegistry.fingerprint(millis)).isNotEqualTo(LocalSchemaRegistry.fingerprint(micros));
+    }
+
+    @Test
+    void register_같은_스키마는_같은_ID_논리_타입이_다르면_새_ID() {
+        LocalSchemaRegistry empty = new LocalSchemaRegistry();
+
+        int millis = empty.register(new Schema.Parser().parse(MILLIS));
+        int again = empty.register(new Schema.Parser().parse(MILLIS));
+        int micros = empty.register(new Schema.Parser().parse(MICROS));
+
+        assertThat(again).isEqualTo(millis);
+        assertThat(micros).isNotEqualTo(millis);
+    }
+
+    @Test
+    void serialize_deserialize_스키마_ID_prefix로_왕복한다() throws Exception {
+        SchemaIdAvroSerializer serializer = new SchemaIdAvroSerializer(registry);
+        OrderCancelledEventPayload payload = OrderCancelledEventPayload.newBuilder()
+                .setOrderId(1L)
+                .setCancelledAt(Instant.parse("2025-01-02T03:04:05.123456Z"))
+                .build();
+
+        byte[] data = serializer.serialize(payload);
+
+        assertThat(SchemaIdAvroSerializer.readSchemaId(data, 0)).isEqualTo(registry.getId(payload.getSchema()));
+        assertThat(serializer.deserialize(data, OrderCancelledEventPayload.class)).isEqualTo(payload);
+    }
+
+    @Test
+    void deserialize_prefix가_없으면_예외() {
+        SchemaIdAvroSerializer serializer = new SchemaIdAvroSerializer(registry);
+
+        assertThatThrownBy(() -> serializer.deserialize(new byte[] {1, 2, 3, 4, 5, 6}, OrderCancelledEventPayload.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Missing schema id prefix");
+    }
+}
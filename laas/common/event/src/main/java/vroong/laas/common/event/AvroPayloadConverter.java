@@ -0,0 +1,325 @@
+package vroong.laas.common.event;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.avro.specific.SpecificRecordBase;
+import vroong.laas.common.event.avro.payload.order.OrderItem;
+import vroong.laas.common.event.avro.payload.order.OrderLocation;
+import vroong.laas.common.event.payload.delivery.DeliveryCancelledEventPayload;
+import vroong.laas.common.event.payload.delivery.DeliveryDeliveredEventPayload;
+import vroong.laas.common.event.payload.delivery.DeliveryPickedUpEventPayload;
+import vroong.laas.common.event.payload.delivery.DeliveryStartedEventPayload;
+import vroong.laas.common.event.payload.dispatch.DispatchDispatchedEventPayload;
+import vroong.laas.common.event.payload.dispatch.DispatchRequestedEventPayload;
+import vroong.laas.common.event.payload.order.OrderCancelledEventPayload;
+import vroong.laas.common.event.payload.order.OrderCreatedEventPayload;
+import vroong.laas.common.event.payload.order.OrderDestinationChangedEventPayload;
+import vroong.laas.common.event.payload.order.OrderItemEventDto;
+import vroong.laas.common.event.payload.order.OrderLocationEventDto;
+import vroong.laas.common.event.registry.LocalSchemaRegistry;
+import vroong.laas.common.event.util.SchemaIdAvroSerializer;
+
+/**
+ * {@link KafkaEventPayload}와 event-schema 모듈의 Avro payload 간 변환
+ *
+ * <p>Avro 클래스는 payload 클래스와 이름이 같으므로 전체 이름으로 참조합니다.
+ * JSON과 같은 값을 싣도록 금액/좌표는 10진수 문자열({@link BigDecimal#toString()})로, 시각은
+ * {@code timestamp-micros}로 보냅니다. 반올림하거나 scale을 바꾸지 않습니다.
+ *
+ * <p>봉투와 payload 모두 로컬 스키마 레지스트리의 스키마 ID를 앞에 붙여 인코딩합니다.
+ */
+final class AvroPayloadConverter {
+
+  static final SchemaIdAvroSerializer SERIALIZER =
+      new SchemaIdAvroSerializer(LocalSchemaRegistry.fromClasspath());
+
+  private AvroPayloadConverter() {
+  }
+
+  static ByteBuffer serialize(KafkaEventType type, KafkaEventPayload payload) throws IOException {
+    return SERIALIZER.serializeToByteBuffer(toAvro(type, payload));
+  }
+
+  static KafkaEventPayload deserialize(KafkaEventType type, ByteBuffer data) throws IOException {
+    return switch (type) {
+      case ORDER_ORDER_CREATED -> fromAvro(SERIALIZER.deserialize(
+          data, vroong.laas.common.event.avro.payload.order.OrderCreatedEventPayload.class));
+      case ORDER_ORDER_DESTINATION_CHANGED -> fromAvro(SERIALIZER.deserialize(
+          data, vroong.laas.common.event.avro.payload.order.OrderDestinationChangedEventPayload.class));
+      case ORDER_ORDER_CANCELLED -> fromAvro(SERIALIZER.deserialize(
+          data, vroong.laas.common.event.avro.payload.order.OrderCancelledEventPayload.class));
+      case DISPATCH_DISPATCH_REQUESTED -> fromAvro(SERIALIZER.deserialize(
+          data, vroong.laas.common.event.avro.payload.dispatch.DispatchRequestedEventPayload.class));
+      case DISPATCH_DISPATCH_DISPATCHED -> fromAvro(SERIALIZER.deserialize(
+          data, vroong.laas.common.event.avro.payload.dispatch.DispatchDispatchedEventPayload.class));
+      case DELIVERY_DELIVERY_STARTED -> fromAvro(SERIALIZER.deserialize(
+          data, vroong.laas.common.event.avro.payload.delivery.DeliveryStartedEventPayload.class));
+      case DELIVERY_DELIVERY_PICKED_UP -> fromAvro(SERIALIZER.deserialize(
+          data, vroong.laas.common.event.avro.payload.delivery.DeliveryPickedUpEventPayload.class));
+      case DELIVERY_DELIVERY_DELIVERED -> fromAvro(SERIALIZER.deserialize(
+          data, vroong.laas.common.event.avro.payload.delivery.DeliveryDeliveredEventPayload.class));
+      case DELIVERY_DELIVERY_CANCELLED -> fromAvro(SERIALIZER.deserialize(
+          data, vroong.laas.common.event.avro.payload.delivery.DeliveryCancelledEventPayload.class));
+    };
+  }
+
+  private static SpecificRecordBase toAvro(KafkaEventType type, KafkaEventPayload payload) {
+    return switch (type) {
+      case ORDER_ORDER_CREATED -> toAvro((OrderCreatedEventPayload) payload);
+      case ORDER_ORDER_DESTINATION_CHANGED -> toAvro((OrderDestinationChangedEventPayload) payload);
+      case ORDER_ORDER_CANCELLED -> toAvro((OrderCancelledEventPayload) payload);
+      case DISPATCH_DISPATCH_REQUESTED -> toAvro((DispatchRequestedEventPayload) payload);
+      case DISPATCH_DISPATCH_DISPATCHED -> toAvro((DispatchDispatchedEventPayload) payload);
+      case DELIVERY_DELIVERY_STARTED -> toAvro((DeliveryStartedEventPayload) payload);
+      case DELIVERY_DELIVERY_PICKED_UP -> toAvro((DeliveryPickedUpEventPayload) payload);
+      case DELIVERY_DELIVERY_DELIVERED -> toAvro((DeliveryDeliveredEventPayload) payload);
+      case DELIVERY_DELIVERY_CANCELLED -> toAvro((DeliveryCancelledEventPayload) payload);
+    };
+  }
+
+  // order
+
+  private static vroong.laas.common.event.avro.payload.order.OrderCreatedEventPayload toAvro(
+      OrderCreatedEventPayload payload) {
+    return vroong.laas.common.event.avro.payload.order.OrderCreatedEventPayload.newBuilder()
+        .setOrderId(payload.getOrderId())
+        .setOrderNumber(payload.getOrderNumber())
+        .setOrderStatus(payload.getOrderStatus())
+        .setOriginLocation(toAvro(payload.getOriginLocation()))
+        .setDestinationLocation(toAvro(payload.getDestinationLocation()))
+        .setItems(payload.getItems().stream().map(AvroPayloadConverter::toAvro).toList())
+        .setOrderedAt(payload.getOrderedAt())
+        .build();
+  }
+
+  private static OrderCreatedEventPayload fromAvro(
+      vroong.laas.common.event.avro.payload.order.OrderCreatedEventPayload avro) {
+    return OrderCreatedEventPayload.builder()
+        .orderId(avro.getOrderId())
+        .orderNumber(avro.getOrderNumber())
+        .orderStatus(avro.getOrderStatus())
+        .originLocation(fromAvro(avro.getOriginLocation()))
+        .destinationLocation(fromAvro(avro.getDestinationLocation()))
+        .items(fromAvro(avro.getItems()))
+        .orderedAt(avro.getOrderedAt())
+        .build();
+  }
+
+  private static vroong.laas.common.event.avro.payload.order.OrderDestinationChangedEventPayload toAvro(
+      OrderDestinationChangedEventPayload payload) {
+    return vroong.laas.common.event.avro.payload.order.OrderDestinationChangedEventPayload.newBuilder()
+        .setOrderId(payload.getOrderId())
+        .setDestinationLocation(toAvro(payload.getDestinationLocation()))
+        .setChangedAt(payload.getChangedAt())
+        .build();
+  }
+
+  private static OrderDestinationChangedEventPayload fromAvro(
+      vroong.laas.common.event.avro.payload.order.OrderDestinationChangedEventPayload avro) {
+    return OrderDestinationChangedEventPayload.builder()
+        .orderId(avro.getOrderId())
+        .destinationLocation(fromAvro(avro.getDestinationLocation()))
+        .changedAt(avro.getChangedAt())
+        .build();
+  }
+
+  private static vroong.laas.common.event.avro.payload.order.OrderCancelledEventPayload toAvro(
+      OrderCancelledEventPayload payload) {
+    return vroong.laas.common.event.avro.payload.order.OrderCancelledEventPayload.newBuilder()
+        .setOrderId(payload.getOrderId())
+        .setCancelledAt(payload.getCancelledAt())
+        .build();
+  }
+
+  private static OrderCancelledEventPayload fromAvro(
+      vroong.laas.common.event.avro.payload.order.OrderCancelledEventPayload avro) {
+    return OrderCancelledEventPayload.builder()
+        .orderId(avro.getOrderId())
+        .cancelledAt(avro.getCancelledAt())
+        .build();
+  }
+
+  private static OrderLocation toAvro(OrderLocationEventDto location) {
+    return OrderLocation.newBuilder()
+        .setContactName(location.getContactName())
+        .setContactPhoneNumber(location.getContactPhoneNumber())
+        .setLatitude(toDecimalString(location.getLatitude()))
+        .setLongitude(toDecimalString(location.getLongitude()))
+        .setJibunAddress(location.getJibunAddress())
+        .setRoadAddress(location.getRoadAddress())
+        .setDetailAddress(location.getDetailAddress())
+        .build();
+  }
+
+  private static OrderLocationEventDto fromAvro(OrderLocation avro) {
+    return OrderLocationEventDto.builder()
+        .contactName(avro.getContactName())
+        .contactPhoneNumber(avro.getContactPhoneNumber())
+        .latitude(toDecimal(avro.getLatitude()))
+        .longitude(toDecimal(avro.getLongitude()))
+        .jibunAddress(avro.getJibunAddress())
+        .roadAddress(avro.getRoadAddress())
+        .detailAddress(avro.getDetailAddress())
+        .build();
+  }
+
+  private static OrderItem toAvro(OrderItemEventDto item) {
+    return OrderItem.newBuilder()
+        .setItemName(item.getItemName())
+        .setQuantity(item.getQuantity())
+        .setPrice(toDecimalString(item.getPrice()))
+        .build();
+  }
+
+  private static List<OrderItemEventDto> fromAvro(List<OrderItem> items) {
+    return items.stream()
+        .map(item -> OrderItemEventDto.builder()
+            .itemName(item.getItemName())
+            .quantity(item.getQuantity())
+            .price(toDecimal(item.getPrice()))
+            .build())
+        .toList();
+  }
+
+  // dispatch
+
+  private static vroong.laas.common.event.avro.payload.dispatch.DispatchRequestedEventPayload toAvro(
+      DispatchRequestedEventPayload payload) {
+    return vroong.laas.common.event.avro.payload.dispatch.DispatchRequestedEventPayload.newBuilder()
+        .setDispatchId(payload.getDispatchId())
+        .setOrderId(payload.getOrderId())
+        .setRequestedAt(payload.getRequestedAt())
+        .build();
+  }
+
+  private static DispatchRequestedEventPayload fromAvro(
+      vroong.laas.common.event.avro.payload.dispatch.DispatchRequestedEventPayload avro) {
+    return DispatchRequestedEventPayload.builder()
+        .dispatchId(avro.getDispatchId())
+        .orderId(avro.getOrderId())
+        .requestedAt(avro.getRequestedAt())
+        .build();
+  }
+
+  private static vroong.laas.common.event.avro.payload.dispatch.DispatchDispatchedEventPayload toAvro(
+      DispatchDispatchedEventPayload payload) {
+    return vroong.laas.common.event.avro.payload.dispatch.DispatchDispatchedEventPayload.newBuilder()
+        .setDispatchId(payload.getDispatchId())
+        .setOrderId(payload.getOrderId())
+        .setAgentId(payload.getAgentId())
+        .setDeliveryFee(toDecimalString(payload.getDeliveryFee()))
+        .setDispatchedAt(payload.getDispatchedAt())
+        .build();
+  }
+
+  private static DispatchDispatchedEventPayload fromAvro(
+      vroong.laas.common.event.avro.payload.dispatch.DispatchDispatchedEventPayload avro) {
+    return DispatchDispatchedEventPayload.builder()
+        .dispatchId(avro.getDispatchId())
+        .orderId(avro.getOrderId())
+        .agentId(avro.getAgentId())
+        .deliveryFee(toDecimal(avro.getDeliveryFee()))
+        .dispatchedAt(avro.getDispatchedAt())
+        .build();
+  }
+
+  // delivery
+
+  private static vroong.laas.common.event.avro.payload.delivery.DeliveryStartedEventPayload toAvro(
+      DeliveryStartedEventPayload payload) {
+    return vroong.laas.common.event.avro.payload.delivery.DeliveryStartedEventPayload.newBuilder()
+        .setDeliveryId(payload.getDeliveryId())
+        .setDeliveryNumber(payload.getDeliveryNumber())
+        .setOrderId(payload.getOrderId())
+        .setAgentId(payload.getAgentId())
+        .setDeliveryFee(toDecimalString(payload.getDeliveryFee()))
+        .setDeliveryStatus(payload.getDeliveryStatus())
+        .setStartedAt(payload.getStartedAt())
+        .build();
+  }
+
+  private static DeliveryStartedEventPayload fromAvro(
+      vroong.laas.common.event.avro.payload.delivery.DeliveryStartedEventPayload avro) {
+    return DeliveryStartedEventPayload.builder()
+        .deliveryId(avro.getDeliveryId())
+        .deliveryNumber(avro.getDeliveryNumber())
+        .orderId(avro.getOrderId())
+        .agentId(avro.getAgentId())
+        .deliveryFee(toDecimal(avro.getDeliveryFee()))
+        .deliveryStatus(avro.getDeliveryStatus())
+        .startedAt(avro.getStartedAt())
+        .build();
+  }
+
+  private static vroong.laas.common.event.avro.payload.delivery.DeliveryPickedUpEventPayload toAvro(
+      DeliveryPickedUpEventPayload payload) {
+    return vroong.laas.common.event.avro.payload.delivery.DeliveryPickedUpEventPayload.newBuilder()
+        .setDeliveryId(payload.getDeliveryId())
+        .setOrderId(payload.getOrderId())
+        .setDeliveryStatus(payload.getDeliveryStatus())
+        .setPickedUpAt(payload.getPickedUpAt())
+        .build();
+  }
+
+  private static DeliveryPickedUpEventPayload fromAvro(
+      vroong.laas.common.event.avro.payload.delivery.DeliveryPickedUpEventPayload avro) {
+    return DeliveryPickedUpEventPayload.builder()
+        .deliveryId(avro.getDeliveryId())
+        .orderId(avro.getOrderId())
+        .deliveryStatus(avro.getDeliveryStatus())
+        .pickedUpAt(avro.getPickedUpAt())
+        .build();
+  }
+
+  private static vroong.laas.common.event.avro.payload.delivery.DeliveryDeliveredEventPayload toAvro(
+      DeliveryDeliveredEventPayload payload) {
+    return vroong.laas.common.event.avro.payload.delivery.DeliveryDeliveredEventPayload.newBuilder()
+        .setDeliveryId(payload.getDeliveryId())
+        .setOrderId(payload.getOrderId())
+        .setDeliveryStatus(payload.getDeliveryStatus())
+        .setDeliveredAt(payload.getDeliveredAt())
+        .build();
+  }
+
+  private static DeliveryDeliveredEventPayload fromAvro(
+      vroong.laas.common.event.avro.payload.delivery.DeliveryDeliveredEventPayload avro) {
+    return DeliveryDeliveredEventPayload.builder()
+        .deliveryId(avro.getDeliveryId())
+        .orderId(avro.getOrderId())
+        .deliveryStatus(avro.getDeliveryStatus())
+        .deliveredAt(avro.getDeliveredAt())
+        .build();
+  }
+
+  private static vroong.laas.common.event.avro.payload.delivery.DeliveryCancelledEventPayload toAvro(
+      DeliveryCancelledEventPayload payload) {
+    return vroong.laas.common.event.avro.payload.delivery.DeliveryCancelledEventPayload.newBuilder()
+        .setDeliveryId(payload.getDeliveryId())
+        .setOrderId(payload.getOrderId())
+        .setDeliveryStatus(payload.getDeliveryStatus())
+        .setReason(payload.getReason())
+        .setCancelledAt(payload.getCancelledAt())
+        .build();
+  }
+
+  private static DeliveryCancelledEventPayload fromAvro(
+      vroong.laas.common.event.avro.payload.delivery.DeliveryCancelledEventPayload avro) {
+    return DeliveryCancelledEventPayload.builder()
+        .deliveryId(avro.getDeliveryId())
+        .orderId(avro.getOrderId())
+        .deliveryStatus(avro.getDeliveryStatus())
+        .reason(avro.getReason())
+        .cancelledAt(avro.getCancelledAt())
+        .build();
+  }
+
+  private static String toDecimalString(BigDecimal value) {
+    return value == null ? null : value.toString();
+  }
+
+  private static BigDecimal toDecimal(String value) {
+    return value == null ? null : new BigDecimal(value);
+  }
+}
@@ -2,12 +2,14 @@ package vroong.laas.common.event;
 
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
 
 /**
  * JSON 직렬화/역직렬화를 위한 유틸리티 클래스
@@ -38,10 +40,43 @@ public final class DataSerializer {
     }
   }
 
+  /**
+   * UTF-8 JSON 바이트를 String으로 바꾸지 않고 바로 역직렬화 합니다.
+   */
+  public static <T> T deserialize(byte[] data, Class<T> clazz) {
+    try {
+      return objectMapper.readValue(data, clazz);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
   public static <T> T deserialize(Object data, Class<T> clazz) {
     return objectMapper.convertValue(data, clazz);
   }
 
+  /**
+   * 스트리밍 파서를 생성합니다. KafkaEvent 봉투를 한 번에 읽을 때 사용합니다.
+   */
+  static JsonParser createParser(String data) throws IOException {
+    return objectMapper.createParser(data);
+  }
+
+  static JsonParser createParser(byte[] data) throws IOException {
+    return objectMapper.createParser(data);
+  }
+
+  static JsonParser createParser(byte[] data, int offset, int length) throws IOException {
+    return objectMapper.createParser(data, offset, length);
+  }
+
+  /**
+   * 파서의 현재 값을 지정한 타입으로 바로 바인딩합니다.
+   */
+  static <T> T read(JsonParser parser, Class<T> clazz) throws IOException {
+    return objectMapper.readValue(parser, clazz);
+  }
+
   public static String serialize(Object data) {
     try {
       return objectMapper.writeValueAsString(data);
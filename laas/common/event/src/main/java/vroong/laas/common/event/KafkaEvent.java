@@ -1,8 +1,17 @@
 package vroong.laas.common.event;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import vroong.laas.common.event.util.SchemaIdAvroSerializer;
 
 @Getter
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -71,35 +80,243 @@ public class KafkaEvent<T extends KafkaEventPayload> {
     return DataSerializer.serialize(this);
   }
 
+  /**
+   * Json 문자열을 Event 객체로 역직렬화 합니다.
+   *
+   * <p>봉투를 스트리밍으로 한 번만 읽으며, {@code type}을 먼저 읽은 뒤 payload를 해당 타입으로 바로 바인딩합니다.
+   * payload가 {@code type}보다 앞에 오면 payload 토큰만 버퍼에 담아 두었다가 바인딩합니다.
+   */
   public static KafkaEvent<KafkaEventPayload> fromJson(String json) {
-    EventRaw eventRaw = DataSerializer.deserialize(json, EventRaw.class);
-    if (eventRaw == null) {
+    try (JsonParser parser = DataSerializer.createParser(json)) {
+      return read(parser);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Event 객체를 Avro 바이너리로 직렬화 합니다.
+   *
+   * <p>event-schema 모듈의 {@code KafkaEvent} 봉투를 사용하며, payload는 타입별 Avro 스키마로 인코딩해 bytes 필드에 담습니다.
+   */
+  public byte[] toAvro() {
+    try {
+      vroong.laas.common.event.avro.KafkaEvent envelope = vroong.laas.common.event.avro.KafkaEvent.newBuilder()
+          .setEventId(eventId)
+          .setType(type.getValue())
+          .setSource(source.getValue())
+          .setTimestamp(Instant.ofEpochMilli(timestamp))
+          .setSchemaVersion(schemaVersion.asString())
+          .setTypeId(type.getId())
+          .setPayload(AvroPayloadConverter.serialize(type, payload))
+          .build();
+      return AvroPayloadConverter.SERIALIZER.serialize(envelope);
+    } catch (IOException e) {
+      throw new IllegalStateException("Avro serialization failed. eventId: " + eventId, e);
+    }
+  }
+
+  /**
+   * Avro 바이너리를 Event 객체로 역직렬화 합니다.
+   */
+  public static KafkaEvent<KafkaEventPayload> fromAvro(byte[] data) {
+    return fromAvro(ByteBuffer.wrap(data));
+  }
+
+  /**
+   * Avro 바이너리를 Event 객체로 역직렬화 합니다. heap 버퍼는 복사 없이 읽습니다.
+   *
+   * <p>스키마 ID prefix가 없거나, 레지스트리에 없는 스키마 ID이거나, 알 수 없는 타입/소스 등 디코딩할 수 없는 메시지는
+   * 예외 대신 null을 반환합니다.
+   */
+  public static KafkaEvent<KafkaEventPayload> fromAvro(ByteBuffer data) {
+    try {
+      vroong.laas.common.event.avro.KafkaEvent envelope =
+          AvroPayloadConverter.SERIALIZER.deserialize(data, vroong.laas.common.event.avro.KafkaEvent.class);
+
+      KafkaEventType kafkaEventType = envelope.getTypeId() != null
+          ? KafkaEventType.fromId(envelope.getTypeId())
+          : KafkaEventType.from(envelope.getType());
+      KafkaEventPayload kafkaEventPayload = null;
+      if (envelope.getPayload() != null) {
+        kafkaEventPayload = AvroPayloadConverter.deserialize(kafkaEventType, envelope.getPayload());
+      }
+
+      return new KafkaEvent<>(
+          envelope.getEventId(),
+          kafkaEventType,
+          KafkaEventSource.from(envelope.getSource()),
+          envelope.getTimestamp().toEpochMilli(),
+          SchemaVersion.from(envelope.getSchemaVersion()),
+          kafkaEventPayload);
+    } catch (IOException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * JSON 봉투에서 이벤트 타입만 읽습니다. {@code type} 필드를 만나면 나머지(payload 포함)는 읽지 않습니다.
+   *
+   * @return 이벤트 타입. 필드가 없거나, 모르는 타입이거나, 읽을 수 없으면 null
+   */
+  static KafkaEventType readJsonType(byte[] json) {
+    String value = readJsonString(json, "type");
+    try {
+      return value == null ? null : KafkaEventType.from(value);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * JSON 봉투에서 최상위 문자열 필드 하나만 읽습니다. 필드를 만나면 나머지는 읽지 않습니다.
+   *
+   * <p>전체를 디코딩하지 않고 헤더 값(예: eventId)만 필요할 때 사용합니다.
+   *
+   * @return 필드 값. 필드가 없거나 읽을 수 없으면 null
+   */
+  public static String readJsonString(byte[] json, String field) {
+    try (JsonParser parser = DataSerializer.createParser(json)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return null;
+      }
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String fieldName = parser.currentName();
+        parser.nextToken();
+        if (field.equals(fieldName)) {
+          return parser.getValueAsString();
+        }
+        parser.skipChildren();
+      }
+      return null;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Avro 봉투에서 이벤트 타입만 읽습니다.
+   *
+   * <p>스키마 ID prefix를 건너뛴 뒤, 봉투 스키마의 필드 순서(eventId, type, ...)대로 eventId를 건너뛰고
+   * type 문자열만 디코딩합니다.
+   *
+   * @return 이벤트 타입. 모르는 타입이거나 읽을 수 없으면 null
+   */
+  static KafkaEventType readAvroType(byte[] data) {
+    if (data.length < SchemaIdAvroSerializer.PREFIX_SIZE) {
+      return null;
+    }
+
+    try {
+      BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(
+          data, SchemaIdAvroSerializer.PREFIX_SIZE, data.length - SchemaIdAvroSerializer.PREFIX_SIZE, null);
+      decoder.skipString();
+      return KafkaEventType.from(decoder.readString());
+    } catch (IOException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Avro 봉투에서 첫 필드인 eventId만 읽습니다.
+   *
+   * @return 이벤트 ID. 읽을 수 없으면 null
+   */
+  static String readAvroEventId(byte[] data) {
+    if (data.length < SchemaIdAvroSerializer.PREFIX_SIZE) {
+      return null;
+    }
+
+    try {
+      BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(
+          data, SchemaIdAvroSerializer.PREFIX_SIZE, data.length - SchemaIdAvroSerializer.PREFIX_SIZE, null);
+      return decoder.readString();
+    } catch (IOException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * UTF-8 Json 바이트를 Event 객체로 역직렬화 합니다. Kafka 레코드 값을 String으로 바꾸지 않고 바로 파싱할 때 사용합니다.
+   */
+  public static KafkaEvent<KafkaEventPayload> fromJson(byte[] json) {
+    return fromJson(json, 0, json.length);
+  }
+
+  /**
+   * UTF-8 Json 바이트를 Event 객체로 역직렬화 합니다. heap 버퍼는 복사 없이 position부터 limit까지 읽습니다.
+   */
+  public static KafkaEvent<KafkaEventPayload> fromJson(ByteBuffer json) {
+    if (json.hasArray()) {
+      return fromJson(json.array(), json.arrayOffset() + json.position(), json.remaining());
+    }
+
+    byte[] copy = new byte[json.remaining()];
+    json.duplicate().get(copy);
+    return fromJson(copy);
+  }
+
+  private static KafkaEvent<KafkaEventPayload> fromJson(byte[] json, int offset, int length) {
+    try (JsonParser parser = DataSerializer.createParser(json, offset, length)) {
+      return read(parser);
+    } catch (IOException e) {
       return null;
     }
+  }
+
+  private static KafkaEvent<KafkaEventPayload> read(JsonParser parser) throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      return null;
+    }
+
+    String eventId = null;
+    KafkaEventType kafkaEventType = null;
+    String source = null;
+    long timestamp = 0L;
+    String schemaVersion = null;
+    KafkaEventPayload kafkaEventPayload = null;
+    TokenBuffer bufferedPayload = null;
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.currentName();
+      parser.nextToken();
+
+      switch (fieldName) {
+        case "eventId" -> eventId = parser.getValueAsString();
+        case "type" -> kafkaEventType = KafkaEventType.from(parser.getValueAsString());
+        case "source" -> source = parser.getValueAsString();
+        case "timestamp" -> timestamp = parser.getValueAsLong();
+        case "schemaVersion" -> schemaVersion = parser.getValueAsString();
+        case "payload" -> {
+          if (kafkaEventType != null) {
+            kafkaEventPayload = DataSerializer.read(parser, kafkaEventType.getPayloadClass());
+          } else {
+            bufferedPayload = DataSerializer.read(parser, TokenBuffer.class);
+          }
+        }
+        default -> parser.skipChildren();
+      }
+    }
+
+    if (kafkaEventType == null) {
+      throw new IllegalArgumentException("EventType value is null");
+    }
+    KafkaEventSource kafkaEventSource = KafkaEventSource.from(source);
+    SchemaVersion kafkaSchemaVersion = SchemaVersion.from(schemaVersion);
 
-    KafkaEventType kafkaEventType = KafkaEventType.from(eventRaw.getType());
-    KafkaEventSource kafkaEventSource = KafkaEventSource.from(eventRaw.getSource());
-    SchemaVersion schemaVersion = SchemaVersion.from(eventRaw.getSchemaVersion());
-    KafkaEventPayload kafkaEventPayload =
-        DataSerializer.deserialize(eventRaw.getPayload(), kafkaEventType.getPayloadClass());
+    if (bufferedPayload != null) {
+      try (JsonParser payloadParser = bufferedPayload.asParser()) {
+        kafkaEventPayload = DataSerializer.read(payloadParser, kafkaEventType.getPayloadClass());
+      }
+    }
 
     return new KafkaEvent<>(
-        eventRaw.getEventId(),
+        eventId,
         kafkaEventType,
         kafkaEventSource,
-        eventRaw.getTimestamp(),
-        schemaVersion,
+        timestamp,
+        kafkaSchemaVersion,
         kafkaEventPayload);
   }
-
-  @Getter
-  private static class EventRaw {
-
-    private String eventId;
-    private String type;
-    private String source;
-    private long timestamp;
-    private String schemaVersion;
-    private Object payload;
-  }
 }
@@ -1,5 +1,9 @@
 package vroong.laas.common.event;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.Getter;
 import vroong.laas.common.event.payload.delivery.DeliveryCancelledEventPayload;
 import vroong.laas.common.event.payload.delivery.DeliveryDeliveredEventPayload;
@@ -17,60 +21,88 @@ public enum KafkaEventType {
   ORDER_ORDER_CREATED(
       "order.order.created",
       KafkaEventTopic.ORDER_EVENT,
-      OrderCreatedEventPayload.class),
+      OrderCreatedEventPayload.class,
+      OrderEventType.ORDER_CREATED),
 
   ORDER_ORDER_DESTINATION_CHANGED(
       "order.order.destination-changed",
       KafkaEventTopic.ORDER_EVENT,
-      OrderDestinationChangedEventPayload.class),
+      OrderDestinationChangedEventPayload.class,
+      OrderEventType.ORDER_DESTINATION_CHANGED),
 
   ORDER_ORDER_CANCELLED(
       "order.order.cancelled",
       KafkaEventTopic.ORDER_EVENT,
-      OrderCancelledEventPayload.class),
+      OrderCancelledEventPayload.class,
+      OrderEventType.ORDER_CANCELLED),
 
   DISPATCH_DISPATCH_REQUESTED(
       "dispatch.dispatch.requested",
       KafkaEventTopic.DISPATCH_EVENT,
-      DispatchRequestedEventPayload.class),
+      DispatchRequestedEventPayload.class,
+      DispatchEventType.DISPATCH_REQUESTED),
 
   DISPATCH_DISPATCH_DISPATCHED(
       "dispatch.dispatch.dispatched",
       KafkaEventTopic.DISPATCH_EVENT,
-      DispatchDispatchedEventPayload.class),
+      DispatchDispatchedEventPayload.class,
+      DispatchEventType.DISPATCH_DISPATCHED),
 
   DELIVERY_DELIVERY_STARTED(
       "delivery.delivery.started",
       KafkaEventTopic.DELIVERY_EVENT,
-      DeliveryStartedEventPayload.class),
+      DeliveryStartedEventPayload.class,
+      DeliveryEventType.DELIVERY_STARTED),
 
   DELIVERY_DELIVERY_PICKED_UP(
       "delivery.delivery.picked-up",
       KafkaEventTopic.DELIVERY_EVENT,
-      DeliveryPickedUpEventPayload.class),
+      DeliveryPickedUpEventPayload.class,
+      DeliveryEventType.DELIVERY_PICKED_UP),
 
   DELIVERY_DELIVERY_DELIVERED(
       "delivery.delivery.delivered",
       KafkaEventTopic.DELIVERY_EVENT,
-      DeliveryDeliveredEventPayload.class),
+      DeliveryDeliveredEventPayload.class,
+      DeliveryEventType.DELIVERY_DELIVERED),
 
   DELIVERY_DELIVERY_CANCELLED(
       "delivery.delivery.cancelled",
       KafkaEventTopic.DELIVERY_EVENT,
-      DeliveryCancelledEventPayload.class)
+      DeliveryCancelledEventPayload.class,
+      DeliveryEventType.DELIVERY_CANCELLED)
       ;
 
+  private static final Map<String, KafkaEventType> BY_VALUE = Arrays.stream(values())
+      .collect(Collectors.toUnmodifiableMap(KafkaEventType::getValue, Function.identity()));
+
+  private static final KafkaEventType[] BY_ID = indexById();
+
   private final String value;
   private final Class<? extends KafkaEventPayload> payloadClass;
   private final KafkaEventTopic topic;
 
+  /**
+   * event-schema 모듈의 대응 타입. 숫자 ID를 공유합니다.
+   */
+  private final EventType schemaType;
+
   KafkaEventType(
       String value,
       KafkaEventTopic topic,
-      Class<? extends KafkaEventPayload> payloadClass) {
+      Class<? extends KafkaEventPayload> payloadClass,
+      EventType schemaType) {
     this.value = value;
     this.topic = topic;
     this.payloadClass = payloadClass;
+    this.schemaType = schemaType;
+  }
+
+  /**
+   * 숫자 이벤트 타입 ID (event-schema의 {@link EventType#getId()}와 같음)
+   */
+  public int getId() {
+    return schemaType.getId();
   }
 
   @Override
@@ -83,12 +115,30 @@ public enum KafkaEventType {
       throw new IllegalArgumentException("EventType value is null");
     }
 
+    KafkaEventType type = BY_VALUE.get(value);
+    if (type == null) {
+      throw new IllegalArgumentException("Unknown EventType value: " + value);
+    }
+    return type;
+  }
+
+  public static KafkaEventType fromId(int id) {
+    KafkaEventType type = id > 0 && id < BY_ID.length ? BY_ID[id] : null;
+    if (type == null) {
+      throw new IllegalArgumentException("Unknown EventType id: " + id);
+    }
+    return type;
+  }
+
+  private static KafkaEventType[] indexById() {
+    KafkaEventType[] byId = new KafkaEventType[
+        Arrays.stream(values()).mapToInt(KafkaEventType::getId).max().orElse(0) + 1];
     for (KafkaEventType type : values()) {
-      if (type.value.equals(value)) {
-        return type;
+      if (!type.value.equals(type.schemaType.getValue()) || byId[type.getId()] != null) {
+        throw new IllegalStateException("Invalid EventType mapping: " + type.value);
       }
+      byId[type.getId()] = type;
     }
-
-    throw new IllegalArgumentException("Unknown EventType value: " + value);
+    return byId;
   }
 }
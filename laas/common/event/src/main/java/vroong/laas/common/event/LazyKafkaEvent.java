@@ -0,0 +1,95 @@
+package vroong.laas.common.event;
+
+import vroong.laas.common.event.serde.KafkaEventWireFormat;
+
+/**
+ * payload를 필요할 때 디코딩하는 {@link KafkaEvent}
+ *
+ * <p>이벤트 타입과 ID는 레코드 헤더(있으면) 또는 봉투의 {@code type}, {@code eventId} 필드만 읽어 정합니다.
+ * 리스너가 관심 없는 타입을 건너뛰면 payload는 한 번도 파싱되지 않습니다.
+ * 한 레코드를 한 스레드에서 처리하는 리스너 용도이므로 동기화하지 않습니다.
+ */
+public class LazyKafkaEvent {
+
+  private final byte[] data;
+  private final KafkaEventWireFormat format;
+
+  private String eventId;
+  private KafkaEventType type;
+  private KafkaEvent<KafkaEventPayload> event;
+
+  /**
+   * @param eventId 레코드 헤더로 알아낸 이벤트 ID. 모르면 null (봉투에서 읽음)
+   * @param type 레코드 헤더로 알아낸 이벤트 타입. 모르면 null (봉투에서 읽음)
+   */
+  public LazyKafkaEvent(byte[] data, KafkaEventWireFormat format, String eventId, KafkaEventType type) {
+    this.data = data;
+    this.format = format;
+    this.eventId = eventId;
+    this.type = type;
+  }
+
+  /**
+   * 이벤트 ID. 헤더가 있으면 값을 열지 않고, 없으면 봉투의 {@code eventId}만 읽습니다. 읽을 수 없으면 null입니다.
+   */
+  public String getEventId() {
+    if (eventId == null) {
+      eventId = resolveEventId();
+    }
+    return eventId;
+  }
+
+  /**
+   * 이벤트 타입. 헤더가 있으면 값을 열지 않고, 없으면 봉투의 {@code type}만 읽습니다.
+   *
+   * @return 이벤트 타입. 타입이 없거나 이 버전이 모르는 타입이면 null
+   */
+  public KafkaEventType getType() {
+    if (type == null) {
+      type = resolveType();
+    }
+    return type;
+  }
+
+  /**
+   * 전체 이벤트를 디코딩합니다. 결과는 재사용합니다.
+   *
+   * @return 디코딩한 이벤트. 디코딩할 수 없으면 null
+   */
+  public KafkaEvent<KafkaEventPayload> decode() {
+    if (event == null) {
+      event = switch (format) {
+        case AVRO -> KafkaEvent.fromAvro(data);
+        case JSON -> KafkaEvent.fromJson(data);
+      };
+    }
+    return event;
+  }
+
+  public KafkaEventPayload getPayload() {
+    KafkaEvent<KafkaEventPayload> decoded = decode();
+    return decoded == null ? null : decoded.getPayload();
+  }
+
+  private String resolveEventId() {
+    if (event != null) {
+      return event.getEventId();
+    }
+
+    return switch (format) {
+      case AVRO -> KafkaEvent.readAvroEventId(data);
+      case JSON -> KafkaEvent.readJsonString(data, "eventId");
+    };
+  }
+
+  private KafkaEventType resolveType() {
+    if (event != null) {
+      return event.getType();
+    }
+
+    return switch (format) {
+      case AVRO -> KafkaEvent.readAvroType(data);
+      case JSON -> KafkaEvent.readJsonType(data);
+    };
+  }
+}
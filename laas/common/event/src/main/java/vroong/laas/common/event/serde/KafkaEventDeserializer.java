@@ -0,0 +1,47 @@
+package vroong.laas.common.event.serde;
+
+import java.nio.ByteBuffer;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import vroong.laas.common.event.KafkaEvent;
+import vroong.laas.common.event.KafkaEventPayload;
+
+/**
+ * {@link KafkaEvent} Kafka Deserializer
+ *
+ * <p>{@link KafkaEventHeaders#CONTENT_TYPE} 헤더로 JSON/Avro를 구분하므로, 전환 기간 동안 한 토픽에 두 형식이 섞여 있어도 읽을 수 있습니다.
+ * 디코딩할 수 없는 메시지는 {@code KafkaEvent.fromJson}과 같이 null을 반환합니다.
+ */
+public class KafkaEventDeserializer implements Deserializer<KafkaEvent<KafkaEventPayload>> {
+
+  @Override
+  public KafkaEvent<KafkaEventPayload> deserialize(String topic, byte[] data) {
+    return data == null ? null : KafkaEvent.fromJson(data);
+  }
+
+  @Override
+  public KafkaEvent<KafkaEventPayload> deserialize(String topic, Headers headers, byte[] data) {
+    return data == null ? null : deserialize(ByteBuffer.wrap(data), format(headers));
+  }
+
+  /**
+   * 컨슈머가 넘겨주는 레코드 버퍼에서 바로 디코딩합니다 (byte[] 복사 없음).
+   */
+  @Override
+  public KafkaEvent<KafkaEventPayload> deserialize(String topic, Headers headers, ByteBuffer data) {
+    return data == null ? null : deserialize(data, format(headers));
+  }
+
+  private static KafkaEventWireFormat format(Headers headers) {
+    Header header = headers == null ? null : headers.lastHeader(KafkaEventHeaders.CONTENT_TYPE);
+    return KafkaEventWireFormat.fromHeader(header == null ? null : header.value());
+  }
+
+  private static KafkaEvent<KafkaEventPayload> deserialize(ByteBuffer data, KafkaEventWireFormat format) {
+    return switch (format) {
+      case AVRO -> KafkaEvent.fromAvro(data);
+      case JSON -> KafkaEvent.fromJson(data);
+    };
+  }
+}
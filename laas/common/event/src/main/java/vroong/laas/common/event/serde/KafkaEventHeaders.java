@@ -0,0 +1,46 @@
+package vroong.laas.common.event.serde;
+
+import java.nio.ByteBuffer;
+
+/**
+ * KafkaEvent 레코드에 붙는 Kafka 헤더 이름
+ */
+public final class KafkaEventHeaders {
+
+  /**
+   * 값의 직렬화 형식 ({@link KafkaEventWireFormat})
+   */
+  public static final String CONTENT_TYPE = "content-type";
+
+  /**
+   * 이벤트 ID (UTF-8 문자열). 컨슈머가 값을 열지 않고 로그에 남길 때 사용합니다.
+   */
+  public static final String EVENT_ID = "event-id";
+
+  /**
+   * 이벤트 타입 값 (예: order.order.created). 컨슈머가 값을 열지 않고 타입을 거를 때 사용합니다.
+   */
+  public static final String EVENT_TYPE = "event-type";
+
+  /**
+   * 숫자 이벤트 타입 ID (4바이트 big-endian int). 문자열 없이 상수 시간에 타입을 찾을 때 사용합니다.
+   */
+  public static final String EVENT_TYPE_ID = "event-type-id";
+
+  private KafkaEventHeaders() {
+  }
+
+  public static byte[] encodeTypeId(int typeId) {
+    return ByteBuffer.allocate(Integer.BYTES).putInt(typeId).array();
+  }
+
+  /**
+   * @return 타입 ID. 헤더 값이 없거나 길이가 맞지 않으면 null
+   */
+  public static Integer decodeTypeId(byte[] value) {
+    if (value == null || value.length != Integer.BYTES) {
+      return null;
+    }
+    return ByteBuffer.wrap(value).getInt();
+  }
+}
@@ -0,0 +1,41 @@
+package vroong.laas.common.event.serde;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * Kafka 메시지 값의 직렬화 형식
+ *
+ * <p>프로듀서는 {@link KafkaEventHeaders#CONTENT_TYPE} 헤더에 형식을 기록하고, 컨슈머는 헤더를 보고 디코딩 방식을 고릅니다.
+ * 헤더가 없는 메시지는 기존 방식대로 JSON으로 취급합니다.
+ */
+@Getter
+public enum KafkaEventWireFormat {
+
+  JSON("application/json"),
+  AVRO("application/avro");
+
+  private final String value;
+  private final byte[] headerValue;
+
+  KafkaEventWireFormat(String value) {
+    this.value = value;
+    this.headerValue = value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public String toString() {
+    return this.value;
+  }
+
+  /**
+   * 헤더 값으로 형식을 조회합니다. 헤더가 없거나 알 수 없는 값이면 JSON입니다.
+   */
+  public static KafkaEventWireFormat fromHeader(byte[] headerValue) {
+    if (headerValue != null && Arrays.equals(AVRO.headerValue, headerValue)) {
+      return AVRO;
+    }
+    return JSON;
+  }
+}
@@ -0,0 +1,67 @@
+package vroong.laas.common.event.serde;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import vroong.laas.common.event.KafkaEventType;
+import vroong.laas.common.event.LazyKafkaEvent;
+
+/**
+ * {@link LazyKafkaEvent} Kafka Deserializer
+ *
+ * <p>값은 디코딩하지 않고 바이트와 헤더만 담아 넘깁니다. 타입 확인과 payload 디코딩은 리스너에서 필요할 때 일어납니다.
+ * 토픽의 일부 이벤트 타입만 처리하는 리스너에 사용합니다.
+ *
+ * <p>바이트를 리스너 호출 시점까지 들고 있어야 하므로, 컨슈머 버퍼를 가리키는 ByteBuffer 대신 복사된 byte[]를 받습니다.
+ */
+public class LazyKafkaEventDeserializer implements Deserializer<LazyKafkaEvent> {
+
+  @Override
+  public LazyKafkaEvent deserialize(String topic, byte[] data) {
+    return data == null ? null : new LazyKafkaEvent(data, KafkaEventWireFormat.JSON, null, null);
+  }
+
+  @Override
+  public LazyKafkaEvent deserialize(String topic, Headers headers, byte[] data) {
+    if (data == null) {
+      return null;
+    }
+    if (headers == null) {
+      return deserialize(topic, data);
+    }
+
+    return new LazyKafkaEvent(
+        data,
+        KafkaEventWireFormat.fromHeader(value(headers.lastHeader(KafkaEventHeaders.CONTENT_TYPE))),
+        eventId(headers),
+        type(headers));
+  }
+
+  private static String eventId(Headers headers) {
+    byte[] eventId = value(headers.lastHeader(KafkaEventHeaders.EVENT_ID));
+    return eventId == null ? null : new String(eventId, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * 숫자 ID 헤더를 우선 사용하고, 없으면 타입 문자열 헤더를 사용합니다.
+   * 알 수 없는 타입은 null로 두고, 리스너에서 봉투의 {@code type}을 읽습니다 (그래도 모르면 null).
+   */
+  private static KafkaEventType type(Headers headers) {
+    try {
+      Integer typeId = KafkaEventHeaders.decodeTypeId(value(headers.lastHeader(KafkaEventHeaders.EVENT_TYPE_ID)));
+      if (typeId != null) {
+        return KafkaEventType.fromId(typeId);
+      }
+
+      byte[] type = value(headers.lastHeader(KafkaEventHeaders.EVENT_TYPE));
+      return type == null ? null : KafkaEventType.from(new String(type, StandardCharsets.UTF_8));
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static byte[] value(Header header) {
+    return header == null ? null : header.value();
+  }
+}
@@ -0,0 +1,134 @@
+package vroong.laas.common.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import vroong.laas.common.event.payload.delivery.DeliveryCancelledEventPayload;
+import vroong.laas.common.event.payload.delivery.DeliveryStartedEventPayload;
+import vroong.laas.common.event.payload.dispatch.DispatchDispatchedEventPayload;
+import vroong.laas.common.event.payload.order.OrderCreatedEventPayload;
+import vroong.laas.common.event.payload.order.OrderItemEventDto;
+import vroong.laas.common.event.payload.order.OrderLocationEventDto;
+
+class KafkaEventAvroTest {
+
+  private static final Instant MICROS = Instant.parse("2025-01-02T03:04:05.123456Z");
+
+  @Test
+  void toAvro_fromAvro_봉투와_payload를_그대로_복원한다() {
+    KafkaEvent<KafkaEventPayload> event = KafkaEvent.of(
+        KafkaEventType.ORDER_ORDER_CREATED, KafkaEventSource.ORDER, orderCreated());
+
+    KafkaEvent<KafkaEventPayload> decoded = KafkaEvent.fromAvro(event.toAvro());
+
+    assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+  }
+
+  @Test
+  void toAvro_fromAvro_BigDecimal의_값과_scale을_유지한다() {
+    KafkaEvent<KafkaEventPayload> event = KafkaEvent.of(
+        KafkaEventType.ORDER_ORDER_CREATED, KafkaEventSource.ORDER, orderCreated());
+
+    OrderCreatedEventPayload payload = (OrderCreatedEventPayload) KafkaEvent.fromAvro(event.toAvro()).getPayload();
+
+    assertThat(payload.getOriginLocation().getLatitude()).isEqualTo(new BigDecimal("37.123456789"));
+    assertThat(payload.getItems().get(0).getPrice()).isEqualTo(new BigDecimal("15000.005"));
+    assertThat(payload.getItems().get(1).getPrice()).isEqualTo(new BigDecimal("1E+3"));
+  }
+
+  @Test
+  void toAvro_fromAvro_마이크로초_시각을_유지한다() {
+    KafkaEvent<KafkaEventPayload> event = KafkaEvent.of(
+        KafkaEventType.DISPATCH_DISPATCH_DISPATCHED,
+        KafkaEventSource.DISPATCH,
+        DispatchDispatchedEventPayload.builder()
+            .dispatchId(1L)
+            .orderId(2L)
+            .agentId(3L)
+            .deliveryFee(new BigDecimal("3500.5"))
+            .dispatchedAt(MICROS)
+            .build());
+
+    DispatchDispatchedEventPayload payload =
+        (DispatchDispatchedEventPayload) KafkaEvent.fromAvro(event.toAvro()).getPayload();
+
+    assertThat(payload.getDispatchedAt()).isEqualTo(MICROS);
+    assertThat(payload.getDeliveryFee()).isEqualTo(new BigDecimal("3500.5"));
+  }
+
+  @Test
+  void toAvro_fromAvro_배송_시작_이벤트를_복원한다() {
+    KafkaEvent<KafkaEventPayload> event = KafkaEvent.of(
+        KafkaEventType.DELIVERY_DELIVERY_STARTED,
+        KafkaEventSource.DELIVERY,
+        DeliveryStartedEventPayload.builder()
+            .deliveryId(1L)
+            .deliveryNumber("D-1")
+            .orderId(2L)
+            .agentId(3L)
+            .deliveryFee(new BigDecimal("0.00"))
+            .deliveryStatus("STARTED")
+            .startedAt(MICROS)
+            .build());
+
+    assertThat(KafkaEvent.fromAvro(event.toAvro())).usingRecursiveComparison().isEqualTo(event);
+  }
+
+  @Test
+  void toAvro_fromAvro_배송_취소_이벤트를_복원한다() {
+    KafkaEvent<KafkaEventPayload> event = KafkaEvent.of(
+        KafkaEventType.DELIVERY_DELIVERY_CANCELLED,
+        KafkaEventSource.DELIVERY,
+        DeliveryCancelledEventPayload.builder()
+            .deliveryId(1L)
+            .orderId(2L)
+            .deliveryStatus("CANCELLED")
+            .reason("고객 요청")
+            .cancelledAt(MICROS)
+            .build());
+
+    assertThat(KafkaEvent.fromAvro(event.toAvro())).usingRecursiveComparison().isEqualTo(event);
+  }
+
+  @Test
+  void fromAvro_스키마_ID_prefix가_없으면_null() {
+    assertThat(KafkaEvent.fromAvro(new byte[] {1, 2, 3, 4, 5, 6})).isNull();
+  }
+
+  @Test
+  void fromAvro_레지스트리에_없는_스키마_ID면_null() {
+    byte[] data = KafkaEvent.of(
+        KafkaEventType.ORDER_ORDER_CREATED, KafkaEventSource.ORDER, orderCreated()).toAvro();
+    data[1] = (byte) 0x7F;
+
+    assertThat(KafkaEvent.fromAvro(data)).isNull();
+  }
+
+  private static OrderCreatedEventPayload orderCreated() {
+    return OrderCreatedEventPayload.builder()
+        .orderId(1L)
+        .orderNumber("ORD-1")
+        .orderStatus("CREATED")
+        .originLocation(location(new BigDecimal("37.123456789")))
+        .destinationLocation(location(new BigDecimal("37.5")))
+        .items(List.of(
+            OrderItemEventDto.builder().itemName("떡볶이").quantity(2).price(new BigDecimal("15000.005")).build(),
+            OrderItemEventDto.builder().itemName("순대").quantity(1).price(new BigDecimal("1E+3")).build()))
+        .orderedAt(MICROS)
+        .build();
+  }
+
+  private static OrderLocationEventDto location(BigDecimal latitude) {
+    return OrderLocationEventDto.builder()
+        .contactName("홍길동")
+        .contactPhoneNumber("010-0000-0000")
+        .latitude(latitude)
+        .longitude(new BigDecimal("127.0000000"))
+        .jibunAddress("서울시 강남구 역삼동 1")
+        .roadAddress("서울시 강남구 테헤란로 1")
+        .build();
+  }
+}
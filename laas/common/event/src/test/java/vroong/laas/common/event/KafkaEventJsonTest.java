@@ -0,0 +1,100 @@
+package vroong.laas.common.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import vroong.laas.common.event.payload.order.OrderCancelledEventPayload;
+
+class KafkaEventJsonTest {
+
+  private static final String PAYLOAD = "{\"orderId\":1,\"cancelledAt\":\"2025-01-02T03:04:05.123456Z\"}";
+
+  @Test
+  void fromJson_toJson_결과를_그대로_복원한다() {
+    KafkaEvent<KafkaEventPayload> event = KafkaEvent.of(
+        KafkaEventType.ORDER_ORDER_CANCELLED,
+        KafkaEventSource.ORDER,
+        OrderCancelledEventPayload.builder()
+            .orderId(1L)
+            .cancelledAt(Instant.parse("2025-01-02T03:04:05.123456Z"))
+            .build());
+
+    assertThat(KafkaEvent.fromJson(event.toJson())).usingRecursiveComparison().isEqualTo(event);
+  }
+
+  @Test
+  void fromJson_type_뒤에_오는_payload를_바인딩한다() {
+    KafkaEvent<KafkaEventPayload> event = KafkaEvent.fromJson(
+        "{\"eventId\":\"e-1\",\"type\":\"order.order.cancelled\",\"source\":\"order\",\"timestamp\":1000,"
+            + "\"schemaVersion\":\"1.0\",\"payload\":" + PAYLOAD + "}");
+
+    assertCancelled(event);
+  }
+
+  @Test
+  void fromJson_type보다_앞에_오는_payload를_바인딩한다() {
+    KafkaEvent<KafkaEventPayload> event = KafkaEvent.fromJson(
+        "{\"payload\":" + PAYLOAD + ",\"eventId\":\"e-1\",\"source\":\"order\",\"timestamp\":1000,"
+            + "\"schemaVersion\":\"1.0\",\"type\":\"order.order.cancelled\"}");
+
+    assertCancelled(event);
+  }
+
+  @Test
+  void fromJson_모르는_필드는_건너뛴다() {
+    KafkaEvent<KafkaEventPayload> event = KafkaEvent.fromJson(
+        "{\"eventId\":\"e-1\",\"extra\":{\"nested\":[1,2,{\"a\":null}]},\"type\":\"order.order.cancelled\","
+            + "\"source\":\"order\",\"timestamp\":1000,\"schemaVersion\":\"1.0\",\"trace\":\"x\",\"payload\":" + PAYLOAD + "}");
+
+    assertCancelled(event);
+  }
+
+  @Test
+  void fromJson_type이_없으면_예외() {
+    assertThatThrownBy(() -> KafkaEvent.fromJson(
+        "{\"eventId\":\"e-1\",\"source\":\"order\",\"timestamp\":1000,\"schemaVersion\":\"1.0\",\"payload\":" + PAYLOAD + "}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("EventType value is null");
+  }
+
+  @Test
+  void fromJson_객체가_아니면_null() {
+    assertThat(KafkaEvent.fromJson("[1,2,3]")).isNull();
+  }
+
+  @Test
+  void fromJson_ByteBuffer의_position부터_limit까지만_읽는다() {
+    String json = "{\"eventId\":\"e-1\",\"type\":\"order.order.cancelled\",\"source\":\"order\",\"timestamp\":1000,"
+        + "\"schemaVersion\":\"1.0\",\"payload\":" + PAYLOAD + "}";
+    byte[] bytes = ("xx" + json + "yy").getBytes(StandardCharsets.UTF_8);
+    ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, bytes.length - 4).slice();
+
+    assertCancelled(KafkaEvent.fromJson(buffer));
+    assertThat(buffer.position()).isZero();
+  }
+
+  @Test
+  void fromJson_direct_ByteBuffer도_읽는다() {
+    byte[] bytes = ("{\"eventId\":\"e-1\",\"type\":\"order.order.cancelled\",\"source\":\"order\",\"timestamp\":1000,"
+        + "\"schemaVersion\":\"1.0\",\"payload\":" + PAYLOAD + "}").getBytes(StandardCharsets.UTF_8);
+    ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+    assertCancelled(KafkaEvent.fromJson(buffer));
+  }
+
+  private static void assertCancelled(KafkaEvent<KafkaEventPayload> event) {
+    assertThat(event.getEventId()).isEqualTo("e-1");
+    assertThat(event.getType()).isEqualTo(KafkaEventType.ORDER_ORDER_CANCELLED);
+    assertThat(event.getSource()).isEqualTo(KafkaEventSource.ORDER);
+    assertThat(event.getTimestamp()).isEqualTo(1000L);
+    assertThat(event.getSchemaVersion()).isEqualTo(new SchemaVersion(1, 0));
+
+    OrderCancelledEventPayload payload = (OrderCancelledEventPayload) event.getPayload();
+    assertThat(payload.getOrderId()).isEqualTo(1L);
+    assertThat(payload.getCancelledAt()).isEqualTo(Instant.parse("2025-01-02T03:04:05.123456Z"));
+  }
+}
@@ -0,0 +1,57 @@
+package vroong.laas.common.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import vroong.laas.common.event.payload.order.OrderCancelledEventPayload;
+import vroong.laas.common.event.serde.KafkaEventWireFormat;
+
+class LazyKafkaEventTest {
+
+  private final KafkaEvent<KafkaEventPayload> event = KafkaEvent.of(
+      "e-1",
+      KafkaEventType.ORDER_ORDER_CANCELLED,
+      KafkaEventSource.ORDER,
+      OrderCancelledEventPayload.builder().orderId(1L).cancelledAt(Instant.now()).build());
+
+  @Test
+  void 헤더가_없으면_JSON_봉투에서_eventId와_type을_읽는다() {
+    LazyKafkaEvent lazy = new LazyKafkaEvent(
+        event.toJson().getBytes(StandardCharsets.UTF_8), KafkaEventWireFormat.JSON, null, null);
+
+    assertThat(lazy.getEventId()).isEqualTo("e-1");
+    assertThat(lazy.getType()).isEqualTo(KafkaEventType.ORDER_ORDER_CANCELLED);
+  }
+
+  @Test
+  void 헤더가_없으면_Avro_봉투에서_eventId와_type을_읽는다() {
+    LazyKafkaEvent lazy = new LazyKafkaEvent(event.toAvro(), KafkaEventWireFormat.AVRO, null, null);
+
+    assertThat(lazy.getEventId()).isEqualTo("e-1");
+    assertThat(lazy.getType()).isEqualTo(KafkaEventType.ORDER_ORDER_CANCELLED);
+  }
+
+  @Test
+  void 모르는_타입이나_타입이_없으면_null() {
+    LazyKafkaEvent unknown = new LazyKafkaEvent(
+        "{\"eventId\":\"e-2\",\"type\":\"order.order.unknown\"}".getBytes(StandardCharsets.UTF_8),
+        KafkaEventWireFormat.JSON, null, null);
+    LazyKafkaEvent missing = new LazyKafkaEvent(
+        "{\"eventId\":\"e-3\"}".getBytes(StandardCharsets.UTF_8), KafkaEventWireFormat.JSON, null, null);
+
+    assertThat(unknown.getType()).isNull();
+    assertThat(unknown.getEventId()).isEqualTo("e-2");
+    assertThat(missing.getType()).isNull();
+  }
+
+  @Test
+  void 디코딩할_수_없는_Avro_값은_null() {
+    LazyKafkaEvent lazy = new LazyKafkaEvent(new byte[] {1, 2, 3}, KafkaEventWireFormat.AVRO, "e-4", null);
+
+    assertThat(lazy.getType()).isNull();
+    assertThat(lazy.decode()).isNull();
+    assertThat(lazy.getEventId()).isEqualTo("e-4");
+  }
+}
@@ -0,0 +1,72 @@
+package vroong.laas.common.outbox;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import vroong.laas.common.event.KafkaEvent;
+import vroong.laas.common.event.KafkaEventPayload;
+import vroong.laas.common.event.KafkaEventType;
+import vroong.laas.common.event.serde.KafkaEventHeaders;
+import vroong.laas.common.event.serde.KafkaEventWireFormat;
+
+/**
+ * KafkaTemplate 기반 {@link OutboxSender}
+ *
+ * <p>{@link OutboxRecord#eventType()}으로 토픽을 정하고, entityKey를 레코드 키로 전송합니다.
+ * {@code avroTopics}에 포함된 토픽은 Avro 바이너리로, 나머지는 저장된 JSON 그대로 전송하며
+ * 형식과 이벤트 ID/타입은 {@link KafkaEventHeaders}의 헤더에 기록해 컨슈머가 값을 열지 않고도 거를 수 있게 합니다.
+ *
+ * <p>JSON 토픽은 payload를 디코딩하지 않고 eventId만 스트리밍으로 읽습니다. 봉투 전체는 Avro로 바꿀 때만 디코딩합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class KafkaOutboxSender implements OutboxSender {
+
+  private final KafkaTemplate<String, byte[]> kafkaTemplate;
+  private final Set<String> avroTopics;
+
+  @Override
+  public CompletableFuture<Void> send(OutboxRecord record) {
+    byte[] json = record.payload().getBytes(StandardCharsets.UTF_8);
+    // event_type 컬럼이 생기기 전에 등록된 행은 봉투의 type 필드로 대신한다.
+    KafkaEventType type = KafkaEventType.from(record.eventType() != null
+        ? record.eventType()
+        : KafkaEvent.readJsonString(json, "type"));
+    String topic = type.getTopic().getValue();
+
+    String eventId = KafkaEvent.readJsonString(json, "eventId");
+    if (eventId == null) {
+      throw new IllegalStateException("Outbox payload has no eventId. eventToken: " + record.eventToken());
+    }
+
+    KafkaEventWireFormat format = avroTopics.contains(topic)
+        ? KafkaEventWireFormat.AVRO
+        : KafkaEventWireFormat.JSON;
+    byte[] value = format == KafkaEventWireFormat.AVRO
+        ? toAvro(record, json)
+        : json;
+
+    ProducerRecord<String, byte[]> producerRecord =
+        new ProducerRecord<>(topic, record.entityKey(), value);
+    producerRecord.headers()
+        .add(KafkaEventHeaders.CONTENT_TYPE, format.getHeaderValue())
+        .add(KafkaEventHeaders.EVENT_ID, eventId.getBytes(StandardCharsets.UTF_8))
+        .add(KafkaEventHeaders.EVENT_TYPE, type.getValue().getBytes(StandardCharsets.UTF_8))
+        .add(KafkaEventHeaders.EVENT_TYPE_ID, KafkaEventHeaders.encodeTypeId(type.getId()));
+
+    return kafkaTemplate.send(producerRecord)
+        .thenAccept(result -> log.debug("published. {}", record.eventToken()));
+  }
+
+  private static byte[] toAvro(OutboxRecord record, byte[] json) {
+    KafkaEvent<KafkaEventPayload> kafkaEvent = KafkaEvent.fromJson(json);
+    if (kafkaEvent == null) {
+      throw new IllegalStateException("Undecodable outbox payload. eventToken: " + record.eventToken());
+    }
+    return kafkaEvent.toAvro();
+  }
+}
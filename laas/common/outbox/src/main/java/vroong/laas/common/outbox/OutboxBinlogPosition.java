@@ -0,0 +1,11 @@
+package vroong.laas.common.outbox;
+
+/**
+ * binlog relay가 처리를 마친 위치
+ *
+ * @param filename binlog 파일 이름
+ * @param position 다음에 읽을 위치 (트랜잭션 경계)
+ */
+public record OutboxBinlogPosition(String filename, long position) {
+
+}
@@ -0,0 +1,16 @@
+package vroong.laas.common.outbox;
+
+/**
+ * binlog relay 위치 저장소
+ *
+ * <p>재시작할 때 마지막으로 처리한 위치부터 이어 읽어, 중단된 동안 커밋된 이벤트를 놓치지 않게 합니다.
+ */
+public interface OutboxBinlogPositionStore {
+
+  /**
+   * 저장된 위치 (없으면 null)
+   */
+  OutboxBinlogPosition load(String relayName);
+
+  void save(String relayName, OutboxBinlogPosition position);
+}
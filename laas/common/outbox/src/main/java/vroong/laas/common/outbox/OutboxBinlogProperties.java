@@ -0,0 +1,23 @@
+package vroong.laas.common.outbox;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * binlog relay 접속 정보 ({@code app.outbox.relay.binlog})
+ *
+ * @param host MySQL writer 호스트
+ * @param port MySQL 포트
+ * @param username REPLICATION SLAVE / REPLICATION CLIENT 권한이 있는 계정
+ * @param password 비밀번호
+ * @param serverId replica로 접속할 때 쓰는 server id (클러스터 안에서 고유해야 함)
+ * @param schema outbox_events 테이블이 있는 스키마
+ */
+public record OutboxBinlogProperties(
+    String host,
+    @DefaultValue("3306") int port,
+    String username,
+    String password,
+    long serverId,
+    String schema) {
+
+}
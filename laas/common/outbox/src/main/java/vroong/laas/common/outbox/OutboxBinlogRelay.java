@@ -0,0 +1,186 @@
+package vroong.laas.common.outbox;
+
+import com.github.shyiko.mysql.binlog.BinaryLogClient;
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.RotateEventData;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * MySQL binlog 기반 Outbox relay
+ *
+ * <p>{@code outbox_events}에 INSERT가 있었던 트랜잭션이 binlog에 커밋되는 즉시 {@link OutboxRelay}를 실행합니다.
+ * 어느 인스턴스에서 커밋된 이벤트든 스케줄 주기를 기다리지 않고 발행되며, 변경이 없으면 조회하지 않습니다.
+ *
+ * <p>발행은 polling과 같은 {@link OutboxRelay}가 맡습니다. 행을 선점(lease)한 뒤 전송하므로 스케줄 relay(안전망)와
+ * 같은 행을 중복 발행하지 않고, entityKey 단위 순서와 실패한 entityKey의 뒤 이벤트 보류, 재시도/격리도 그대로 적용됩니다.
+ *
+ * <p>발행을 마친 트랜잭션 경계의 binlog 위치를 {@link OutboxBinlogPositionStore}에 저장하고, 재시작하면 그 위치부터 읽습니다.
+ * 이미 발행된 행은 선점 대상이 아니므로 다시 읽어도 중복 발행되지 않습니다.
+ *
+ * <p>한계: binlog는 발행 시점을 알려 줄 뿐 발행할 행을 정하지 않습니다. outbox INSERT가 있는 커밋마다
+ * {@link OutboxRelay#publish(int)}의 선점 쿼리({@code SELECT ... FOR UPDATE SKIP LOCKED})를 writer에서 실행하고,
+ * 스케줄 발행(안전망)도 그대로 돌기 때문에 polling 모드보다 조회가 줄지 않습니다. 줄어드는 것은 커밋 후 발행까지의 지연입니다.
+ *
+ * <p>요구 사항:
+ * <ul>
+ *   <li>{@code binlog_format=ROW}</li>
+ *   <li>계정에 {@code REPLICATION SLAVE}, {@code REPLICATION CLIENT} 권한</li>
+ *   <li>인스턴스마다 다른 {@code server-id}. 여러 인스턴스에서 켜도 선점 덕분에 중복 발행은 없지만,
+ *       인스턴스마다 모든 커밋을 받아 선점 쿼리를 실행하므로 켠 인스턴스 수만큼 writer 조회가 늘어남</li>
+ * </ul>
+ */
+@Slf4j
+public class OutboxBinlogRelay implements SmartLifecycle {
+
+  private static final String TABLE = "outbox_events";
+  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+  private final BinaryLogClient client;
+  private final String schema;
+  private final OutboxRelay outboxRelay;
+  private final OutboxBinlogPositionStore positionStore;
+  private final int batchSize;
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(
+      Thread.ofPlatform().name("outbox-binlog-relay").daemon().factory());
+  private final AtomicBoolean pending = new AtomicBoolean();
+  private final AtomicReference<OutboxBinlogPosition> committedPosition = new AtomicReference<>();
+
+  private String binlogFilename;
+  private long outboxTableId = -1;
+  private boolean outboxWritten;
+  private volatile boolean running;
+
+  public OutboxBinlogRelay(
+      OutboxBinlogProperties properties,
+      OutboxRelay outboxRelay,
+      OutboxBinlogPositionStore positionStore,
+      int batchSize) {
+    this.schema = properties.schema();
+    this.outboxRelay = outboxRelay;
+    this.positionStore = positionStore;
+    this.batchSize = batchSize;
+
+    this.client = new BinaryLogClient(
+        properties.host(), properties.port(), properties.username(), properties.password());
+    this.client.setServerId(properties.serverId());
+    this.client.registerEventListener(this::onEvent);
+  }
+
+  @Override
+  public void start() {
+    OutboxBinlogPosition position = positionStore.load(schema);
+    if (position != null) {
+      client.setBinlogFilename(position.filename());
+      client.setBinlogPosition(position.position());
+    }
+
+    try {
+      client.connect(CONNECT_TIMEOUT.toMillis());
+    } catch (IOException | TimeoutException e) {
+      throw new IllegalStateException("outbox binlog 연결 실패", e);
+    }
+    binlogFilename = client.getBinlogFilename();
+    running = true;
+    log.info("outbox binlog relay started. schema: {}, position: {}", schema, position);
+
+    // 중단된 동안 쌓인 이벤트를 먼저 발행한다.
+    wakeUp();
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    try {
+      client.disconnect();
+    } catch (IOException e) {
+      log.warn("outbox binlog 연결 종료 실패", e);
+    }
+    executor.shutdown();
+    try {
+      executor.awaitTermination(CONNECT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void onEvent(Event event) {
+    EventType eventType = event.getHeader().getEventType();
+
+    if (eventType == EventType.ROTATE) {
+      RotateEventData data = event.getData();
+      binlogFilename = data.getBinlogFilename();
+      return;
+    }
+
+    // table id는 테이블 정의가 바뀌면 새로 할당되므로 가장 최근 것만 유지한다.
+    if (eventType == EventType.TABLE_MAP) {
+      TableMapEventData data = event.getData();
+      if (schema.equals(data.getDatabase()) && TABLE.equals(data.getTable())) {
+        outboxTableId = data.getTableId();
+      }
+      return;
+    }
+
+    if (EventType.isWrite(eventType)) {
+      WriteRowsEventData data = event.getData();
+      outboxWritten |= data.getTableId() == outboxTableId;
+      return;
+    }
+
+    // 트랜잭션 커밋: 이 위치까지의 INSERT는 커밋되어 선점 쿼리에서 보인다.
+    if (eventType == EventType.XID && outboxWritten) {
+      outboxWritten = false;
+      EventHeaderV4 header = event.getHeader();
+      committedPosition.set(new OutboxBinlogPosition(binlogFilename, header.getNextPosition()));
+      wakeUp();
+    }
+  }
+
+  private void wakeUp() {
+    if (pending.compareAndSet(false, true)) {
+      executor.execute(this::drain);
+    }
+  }
+
+  private void drain() {
+    pending.set(false);
+    OutboxBinlogPosition position = committedPosition.get();
+    try {
+      int count;
+      do {
+        count = outboxRelay.publish(batchSize);
+      } while (count >= batchSize);
+    } catch (Exception e) {
+      log.warn("outbox binlog relay 발행 실패. 스케줄 발행으로 재시도됩니다.", e);
+      return;
+    }
+
+    if (position == null) {
+      return;
+    }
+    try {
+      positionStore.save(schema, position);
+    } catch (Exception e) {
+      log.warn("outbox binlog 위치 저장 실패. position: {}", position, e);
+    }
+  }
+}
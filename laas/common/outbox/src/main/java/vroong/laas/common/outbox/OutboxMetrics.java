@@ -0,0 +1,103 @@
+package vroong.laas.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox relay 지표
+ *
+ * <p>발행 대기 건수, 가장 오래된 미발행 이벤트의 나이, 배치 발행 시간, 이벤트별 등록→발행 지연,
+ * 이벤트 타입별 발행 실패 수를 기록합니다. relay 배치 크기 산정과 consumer 지연 경보에 사용합니다.
+ *
+ * <p>발행 대기 건수와 가장 오래된 등록 시각은 relay가 실행될 때 {@code refreshInterval}마다 한 번만 조회해 두고,
+ * scrape는 저장된 값만 읽습니다. 나이는 scrape 시각 기준으로 계산하므로 relay가 멈춰도 계속 늘어납니다.
+ */
+@Slf4j
+public class OutboxMetrics {
+
+  private static final String UNKNOWN_TYPE = "unknown";
+
+  private final MeterRegistry meterRegistry;
+  private final OutboxStore outboxStore;
+  private final Duration refreshInterval;
+  private final Timer batchTimer;
+  private final Timer latencyTimer;
+
+  private final AtomicLong pendingCount = new AtomicLong();
+  private final AtomicReference<Instant> oldestPendingRegisteredAt = new AtomicReference<>();
+  private final AtomicLong nextRefreshNanos = new AtomicLong(System.nanoTime());
+
+  public OutboxMetrics(MeterRegistry meterRegistry, OutboxStore outboxStore, Duration refreshInterval) {
+    this.meterRegistry = meterRegistry;
+    this.outboxStore = outboxStore;
+    this.refreshInterval = refreshInterval;
+
+    Gauge.builder("outbox.events.registered", pendingCount, AtomicLong::get)
+        .description("발행 대기 중인 outbox 이벤트 수")
+        .register(meterRegistry);
+
+    Gauge.builder("outbox.events.oldest.age", this, OutboxMetrics::oldestAgeSeconds)
+        .description("가장 오래된 미발행 outbox 이벤트의 나이")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+
+    this.batchTimer = Timer.builder("outbox.relay.batch.duration")
+        .description("relay 한 배치의 선점부터 PUBLISHED 처리까지 걸린 시간")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+
+    this.latencyTimer = Timer.builder("outbox.event.publish.latency")
+        .description("이벤트 등록부터 발행 완료까지 걸린 시간")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  /**
+   * 발행 대기 현황을 다시 조회합니다. 마지막 조회 후 {@code refreshInterval}이 지나지 않았으면 아무것도 하지 않습니다.
+   */
+  public void refreshBacklog() {
+    long now = System.nanoTime();
+    long next = nextRefreshNanos.get();
+    if (now - next < 0 || !nextRefreshNanos.compareAndSet(next, now + refreshInterval.toNanos())) {
+      return;
+    }
+
+    try {
+      pendingCount.set(outboxStore.countPending());
+      oldestPendingRegisteredAt.set(outboxStore.findOldestPendingRegisteredAt());
+    } catch (Exception e) {
+      log.warn("outbox 발행 대기 현황 조회 실패", e);
+    }
+  }
+
+  public void recordBatch(Duration duration) {
+    batchTimer.record(duration);
+  }
+
+  public void recordPublished(OutboxRecord record, Instant publishedAt) {
+    latencyTimer.record(Duration.between(record.registeredAt(), publishedAt));
+  }
+
+  public void recordFailure(OutboxRecord record) {
+    Counter.builder("outbox.event.publish.failures")
+        .description("이벤트 타입별 outbox 발행 실패 수")
+        .tag("type", record.eventType() == null ? UNKNOWN_TYPE : record.eventType())
+        .register(meterRegistry)
+        .increment();
+  }
+
+  private double oldestAgeSeconds() {
+    Instant oldest = oldestPendingRegisteredAt.get();
+    if (oldest == null) {
+      return 0;
+    }
+    return Duration.between(oldest, Instant.now()).toMillis() / 1000.0;
+  }
+}
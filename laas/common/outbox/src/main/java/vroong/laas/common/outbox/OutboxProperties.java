@@ -0,0 +1,45 @@
+package vroong.laas.common.outbox;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Outbox 설정 ({@code app.outbox})
+ *
+ * <p>모든 값에 기본값이 있으므로 서비스는 바꿀 값만 설정합니다.
+ * 스케줄 주기는 {@code app.outbox.relay.fixed-delay-ms}(기본 5000), {@code app.outbox.retention.fixed-delay-ms}
+ * (기본 60000)로 정하며 {@link OutboxPublishJob}, {@link OutboxRetentionJob}이 읽습니다.
+ *
+ * @param relay relay 설정
+ * @param metrics 지표 설정
+ * @param retention PUBLISHED 이벤트 정리 설정
+ */
+@ConfigurationProperties("app.outbox")
+public record OutboxProperties(
+    @DefaultValue OutboxRelayProperties relay,
+    @DefaultValue Metrics metrics,
+    @DefaultValue Retention retention) {
+
+  /**
+   * @param refreshInterval 발행 대기 건수 / 가장 오래된 이벤트 조회 주기 (relay 실행 시점에 갱신)
+   */
+  public record Metrics(
+      @DefaultValue("10s") Duration refreshInterval) {
+
+  }
+
+  /**
+   * @param period PUBLISHED 이벤트 보관 기간
+   * @param chunkSize 한 번에 삭제할 최대 건수
+   * @param maxChunks 한 번 실행에서 처리할 최대 단위 수
+   * @param chunkPause 단위 사이 대기 시간
+   */
+  public record Retention(
+      @DefaultValue("7d") Duration period,
+      @DefaultValue("1000") int chunkSize,
+      @DefaultValue("100") int maxChunks,
+      @DefaultValue("100ms") Duration chunkPause) {
+
+  }
+}
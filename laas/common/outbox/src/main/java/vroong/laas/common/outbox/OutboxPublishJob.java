@@ -0,0 +1,32 @@
+package vroong.laas.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Outbox 스케줄 발행 job
+ *
+ * <p>평시에는 커밋 직후 {@link OutboxRelayWaker}(polling) 또는 {@link OutboxBinlogRelay}(binlog)가 발행하고,
+ * 이 job은 놓친 이벤트와 재시도 시각이 된 이벤트를 발행하는 안전망입니다.
+ * 서비스 애플리케이션에 {@code @EnableScheduling}이 있어야 실행됩니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxPublishJob {
+
+  private final OutboxRelay outboxRelay;
+  private final int batchSize;
+
+  @Scheduled(fixedDelayString = "${app.outbox.relay.fixed-delay-ms:5000}")
+  public void execute() {
+    try {
+      int count = outboxRelay.publish(batchSize);
+      if (count > 0) {
+        log.info("Published {} events", count);
+      }
+    } catch (RuntimeException e) {
+      log.error("Outbox publish job failed", e);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package vroong.laas.common.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox 이벤트 정리기
+ *
+ * <p>보관 기간이 지난 PUBLISHED 이벤트를 작은 단위로 나눠 삭제합니다.
+ * 단위마다 짧은 트랜잭션으로 지우고 잠시 쉬므로, 긴 잠금이나 복제 지연 없이 테이블 크기를 일정하게 유지합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxPurger {
+
+  private final OutboxStore outboxStore;
+
+  /**
+   * @param publishedBefore 이 시각 이전에 발행된 이벤트를 삭제
+   * @param chunkSize 한 번에 삭제할 최대 건수
+   * @param maxChunks 한 번 실행에서 처리할 최대 단위 수
+   * @param pause 단위 사이 대기 시간
+   * @return 삭제한 이벤트 수
+   */
+  public int purge(Instant publishedBefore, int chunkSize, int maxChunks, Duration pause) {
+    int purged = 0;
+    for (int chunk = 0; chunk < maxChunks; chunk++) {
+      List<Long> ids = outboxStore.findPublishedIdsBefore(publishedBefore, chunkSize);
+
+      if (ids.isEmpty()) {
+        break;
+      }
+
+      purged += outboxStore.deleteAllByIds(ids);
+
+      if (ids.size() < chunkSize || !sleep(pause)) {
+        break;
+      }
+    }
+    return purged;
+  }
+
+  private boolean sleep(Duration pause) {
+    try {
+      Thread.sleep(pause);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("outbox 정리 중단. 다음 주기에 이어서 처리합니다.");
+      return false;
+    }
+  }
+}
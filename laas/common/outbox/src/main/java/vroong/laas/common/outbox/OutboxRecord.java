@@ -0,0 +1,25 @@
+package vroong.laas.common.outbox;
+
+import java.time.Instant;
+
+/**
+ * relay가 발행하는 Outbox 이벤트 한 건
+ *
+ * @param id outbox 행 id
+ * @param eventToken 이벤트 토큰
+ * @param entityKey 집합 키 (Kafka 레코드 키로 사용)
+ * @param eventType 이벤트 타입 (KafkaEventType 값)
+ * @param payload 발행할 KafkaEvent JSON
+ * @param registeredAt 등록 시각
+ * @param attemptCount 지금까지 발행에 실패한 횟수
+ */
+public record OutboxRecord(
+    Long id,
+    String eventToken,
+    String entityKey,
+    String eventType,
+    String payload,
+    Instant registeredAt,
+    int attemptCount) {
+
+}
@@ -0,0 +1,180 @@
+package vroong.laas.common.outbox;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox relay 엔진
+ *
+ * <p>{@link OutboxStore}에서 한 페이지를 선점하고, 모두 비동기로 전송한 뒤 ack를 한꺼번에 기다려
+ * ack를 받은 이벤트만 한 번의 UPDATE로 PUBLISHED 처리합니다.
+ * 실패하거나 시간 안에 ack를 받지 못한 이벤트는 지수 백오프 후 재시도되고, 한도를 넘기면 FAILED로 격리됩니다.
+ *
+ * <p>이벤트는 오래된 순서로, entityKey를 Kafka 레코드 키로 삼아 전송하므로
+ * 같은 entityKey의 이벤트는 같은 파티션에 순서대로 쌓입니다.
+ *
+ * <p>선점 트랜잭션은 짧게 끝나고 전송은 트랜잭션 밖에서 진행되므로, 여러 인스턴스가 동시에 실행해도 안전합니다.
+ */
+@Slf4j
+public class OutboxRelay {
+
+  private final OutboxStore outboxStore;
+  private final OutboxSender outboxSender;
+  private final OutboxMetrics outboxMetrics;
+  private final OutboxRelayProperties properties;
+
+  @Getter
+  private final String owner =
+      ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+
+  public OutboxRelay(
+      OutboxStore outboxStore,
+      OutboxSender outboxSender,
+      OutboxMetrics outboxMetrics,
+      OutboxRelayProperties properties) {
+    this.outboxStore = outboxStore;
+    this.outboxSender = outboxSender;
+    this.outboxMetrics = outboxMetrics;
+    this.properties = properties;
+  }
+
+  /**
+   * 최대 size건을 선점해 발행합니다.
+   *
+   * @return PUBLISHED 처리된 이벤트 수
+   */
+  public int publish(int size) {
+    outboxMetrics.refreshBacklog();
+
+    long startedAt = System.nanoTime();
+    Instant now = Instant.now();
+    List<OutboxRecord> records = outboxStore.claim(size, owner, now, now.plus(properties.leaseDuration()));
+
+    if (records.isEmpty()) {
+      return 0;
+    }
+
+    try {
+      return relay(records);
+    } finally {
+      outboxMetrics.recordBatch(Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+  }
+
+  private int relay(List<OutboxRecord> records) {
+    List<InFlight> inFlights = new ArrayList<>(records.size());
+    for (OutboxRecord record : records) {
+      try {
+        inFlights.add(new InFlight(record, outboxSender.send(record)));
+      } catch (Exception e) {
+        inFlights.add(new InFlight(record, CompletableFuture.failedFuture(e)));
+      }
+    }
+
+    awaitAll(inFlights);
+
+    // 같은 entityKey에서 앞선 이벤트가 실패하면, 이후 이벤트는 ack를 받았더라도 다시 발행해 순서를 맞춘다.
+    List<OutboxRecord> published = new ArrayList<>(inFlights.size());
+    List<Long> deferredIds = new ArrayList<>();
+    List<OutboxRecord> failed = new ArrayList<>();
+    Set<String> failedKeys = new HashSet<>();
+    for (InFlight inFlight : inFlights) {
+      String entityKey = inFlight.record().entityKey();
+      if (!inFlight.isAcknowledged()) {
+        failed.add(inFlight.record());
+        failedKeys.add(entityKey);
+        outboxMetrics.recordFailure(inFlight.record());
+        log.error("outbox 발행 실패. token: {}",
+            inFlight.record().eventToken(), inFlight.failure());
+      } else if (failedKeys.contains(entityKey)) {
+        deferredIds.add(inFlight.record().id());
+      } else {
+        published.add(inFlight.record());
+      }
+    }
+
+    if (!deferredIds.isEmpty()) {
+      outboxStore.release(deferredIds, owner);
+    }
+
+    if (!failed.isEmpty()) {
+      int quarantined = markAsFailed(failed);
+      if (quarantined > 0) {
+        log.error("outbox 발행 재시도 한도 초과로 FAILED 처리. count: {}", quarantined);
+      }
+    }
+
+    if (published.isEmpty()) {
+      return 0;
+    }
+
+    Instant publishedAt = Instant.now();
+    int count = outboxStore.markAsPublished(
+        published.stream().map(OutboxRecord::id).toList(), owner, publishedAt);
+    published.forEach(record -> outboxMetrics.recordPublished(record, publishedAt));
+
+    return count;
+  }
+
+  private int markAsFailed(List<OutboxRecord> records) {
+    Instant now = Instant.now();
+    int quarantined = 0;
+    for (OutboxRecord record : records) {
+      int attempts = record.attemptCount() + 1;
+      if (attempts >= properties.maxAttempts()) {
+        outboxStore.markAsFailed(record.id(), owner, true, null, now);
+        quarantined++;
+      } else {
+        outboxStore.markAsFailed(record.id(), owner, false, now.plus(backoff(attempts)), now);
+      }
+    }
+    return quarantined;
+  }
+
+  private Duration backoff(int attempts) {
+    Duration backoff = properties.initialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+    return backoff.compareTo(properties.maxBackoff()) > 0 ? properties.maxBackoff() : backoff;
+  }
+
+  private void awaitAll(List<InFlight> inFlights) {
+    CompletableFuture<?>[] futures = inFlights.stream()
+        .map(InFlight::future)
+        .toArray(CompletableFuture[]::new);
+
+    Duration sendTimeout = properties.sendTimeout();
+    try {
+      CompletableFuture.allOf(futures).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (TimeoutException e) {
+      log.warn("outbox 발행 ack 대기 시간 초과. timeout: {}", sendTimeout);
+    } catch (Exception e) {
+      // 개별 실패는 InFlight 단위로 판정한다.
+    }
+  }
+
+  private record InFlight(OutboxRecord record, CompletableFuture<Void> future) {
+
+    boolean isAcknowledged() {
+      return future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    Throwable failure() {
+      if (!future.isDone()) {
+        return new TimeoutException("ack not received");
+      }
+      return future.exceptionNow();
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package vroong.laas.common.outbox;
+
+/**
+ * Outbox relay 방식
+ */
+public enum OutboxRelayMode {
+
+  /**
+   * 커밋 직후 깨우기 + 주기적 조회로 발행
+   */
+  POLLING,
+
+  /**
+   * MySQL binlog의 INSERT를 받아 발행 (주기적 조회는 안전망으로만 사용)
+   */
+  BINLOG
+}
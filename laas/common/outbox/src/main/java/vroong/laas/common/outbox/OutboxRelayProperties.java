@@ -0,0 +1,28 @@
+package vroong.laas.common.outbox;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * relay 설정 ({@code app.outbox.relay})
+ *
+ * @param leaseDuration 선점 유지 시간 (만료되면 다른 인스턴스가 다시 선점)
+ * @param sendTimeout 한 페이지의 ack를 기다리는 최대 시간 (leaseDuration보다 짧아야 함)
+ * @param maxAttempts 이 횟수만큼 실패하면 FAILED로 격리
+ * @param initialBackoff 첫 실패 후 재시도 대기 시간 (실패할 때마다 두 배)
+ * @param maxBackoff 재시도 대기 시간 상한
+ * @param mode 발행 방식 (polling | binlog)
+ * @param batchSize 한 번에 비동기로 발행할 최대 이벤트 수
+ * @param binlog binlog 모드 접속 정보 (mode가 binlog일 때만 필요)
+ */
+public record OutboxRelayProperties(
+    @DefaultValue("30s") Duration leaseDuration,
+    @DefaultValue("5s") Duration sendTimeout,
+    @DefaultValue("10") int maxAttempts,
+    @DefaultValue("1s") Duration initialBackoff,
+    @DefaultValue("5m") Duration maxBackoff,
+    @DefaultValue("polling") OutboxRelayMode mode,
+    @DefaultValue("500") int batchSize,
+    OutboxBinlogProperties binlog) {
+
+}
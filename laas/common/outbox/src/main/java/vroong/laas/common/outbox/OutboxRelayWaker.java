@@ -0,0 +1,78 @@
+package vroong.laas.common.outbox;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Outbox relay 깨우기
+ *
+ * <p>이벤트를 저장한 트랜잭션이 커밋되는 즉시 relay를 실행해, 스케줄 주기를 기다리지 않고 발행합니다.
+ * 여러 번의 신호는 하나의 실행으로 합쳐지며, 스케줄 job은 누락분을 처리하는 안전망으로만 동작합니다.
+ *
+ * <p>binlog relay를 쓰는 경우에는 binlog가 발행을 맡으므로 비활성화됩니다.
+ */
+@Slf4j
+public class OutboxRelayWaker implements AutoCloseable {
+
+  private final OutboxRelay outboxRelay;
+  private final int batchSize;
+  private final boolean enabled;
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(
+      Thread.ofPlatform().name("outbox-relay-waker").daemon().factory());
+  private final AtomicBoolean pending = new AtomicBoolean();
+
+  public OutboxRelayWaker(OutboxRelay outboxRelay, int batchSize, boolean enabled) {
+    this.outboxRelay = outboxRelay;
+    this.batchSize = batchSize;
+    this.enabled = enabled;
+  }
+
+  /**
+   * 현재 트랜잭션이 커밋된 뒤 relay를 깨웁니다. 트랜잭션 밖이면 즉시 깨웁니다.
+   */
+  public void wakeUpAfterCommit() {
+    if (!enabled) {
+      return;
+    }
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      wakeUp();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        wakeUp();
+      }
+    });
+  }
+
+  private void wakeUp() {
+    if (pending.compareAndSet(false, true)) {
+      executor.execute(this::drain);
+    }
+  }
+
+  private void drain() {
+    pending.set(false);
+    try {
+      int count;
+      do {
+        count = outboxRelay.publish(batchSize);
+      } while (count >= batchSize);
+    } catch (Exception e) {
+      log.warn("outbox relay 즉시 발행 실패. 스케줄 발행으로 재시도됩니다.", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.shutdown();
+  }
+}
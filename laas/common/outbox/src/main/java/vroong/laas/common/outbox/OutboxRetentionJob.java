@@ -0,0 +1,35 @@
+package vroong.laas.common.outbox;
+
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 발행이 끝난 Outbox 이벤트를 보관 기간이 지나면 삭제하는 job
+ *
+ * <p>서비스 애플리케이션에 {@code @EnableScheduling}이 있어야 실행됩니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxRetentionJob {
+
+  private final OutboxPurger outboxPurger;
+  private final OutboxProperties.Retention retention;
+
+  @Scheduled(fixedDelayString = "${app.outbox.retention.fixed-delay-ms:60000}")
+  public void execute() {
+    try {
+      int count = outboxPurger.purge(
+          Instant.now().minus(retention.period()),
+          retention.chunkSize(),
+          retention.maxChunks(),
+          retention.chunkPause());
+      if (count > 0) {
+        log.info("Purged {} published events", count);
+      }
+    } catch (RuntimeException e) {
+      log.error("Outbox retention job failed", e);
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package vroong.laas.common.outbox;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Outbox 이벤트 전송
+ */
+public interface OutboxSender {
+
+  /**
+   * 이벤트를 비동기로 전송합니다. 반환된 future는 broker ack를 받으면 완료됩니다.
+   */
+  CompletableFuture<Void> send(OutboxRecord record);
+}
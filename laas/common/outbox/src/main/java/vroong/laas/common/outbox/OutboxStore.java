@@ -0,0 +1,51 @@
+package vroong.laas.common.outbox;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 서비스별 outbox 테이블 접근
+ *
+ * <p>{@link vroong.laas.common.outbox.autoconfigure.OutboxAutoConfiguration}이 서비스의 outbox repository로 {@link vroong.laas.common.outbox.jpa.JpaOutboxStore}를 만들어 {@link OutboxRelay}에 연결합니다.
+ * 변경 메서드는 각각 짧은 트랜잭션으로 writer에서 실행되어야 합니다.
+ */
+public interface OutboxStore {
+
+  /**
+   * 발행할 이벤트를 오래된 순서로 선점합니다.
+   *
+   * <p>{@code FOR UPDATE SKIP LOCKED}로 잠근 뒤 owner와 만료 시각을 기록합니다.
+   * entityKey마다 가장 앞선 미발행 이벤트를 잠근 relay만 그 entityKey를 선점할 수 있으며,
+   * 선점 중이거나 재시도 시각이 되지 않은 이벤트와 그 뒤의 이벤트는 제외합니다.
+   */
+  List<OutboxRecord> claim(int size, String owner, Instant now, Instant leaseExpiresAt);
+
+  /**
+   * owner가 선점한 이벤트를 PUBLISHED 처리합니다.
+   */
+  int markAsPublished(Collection<Long> ids, String owner, Instant publishedAt);
+
+  /**
+   * owner가 선점한 이벤트의 선점을 해제합니다.
+   */
+  int release(Collection<Long> ids, String owner);
+
+  /**
+   * 발행 실패를 기록하고 선점을 해제합니다.
+   *
+   * @param quarantine true면 FAILED로 격리, false면 nextAttemptAt까지 재시도 대기
+   */
+  void markAsFailed(Long id, String owner, boolean quarantine, Instant nextAttemptAt, Instant now);
+
+  long countPending();
+
+  /**
+   * 가장 오래된 미발행 이벤트의 등록 시각 (없으면 null)
+   */
+  Instant findOldestPendingRegisteredAt();
+
+  List<Long> findPublishedIdsBefore(Instant publishedBefore, int size);
+
+  int deleteAllByIds(Collection<Long> ids);
+}
@@ -0,0 +1,122 @@
+package vroong.laas.common.outbox.autoconfigure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import vroong.laas.common.outbox.OutboxBinlogPositionStore;
+import vroong.laas.common.outbox.OutboxBinlogProperties;
+import vroong.laas.common.outbox.OutboxBinlogRelay;
+import vroong.laas.common.outbox.OutboxMetrics;
+import vroong.laas.common.outbox.OutboxProperties;
+import vroong.laas.common.outbox.OutboxPublishJob;
+import vroong.laas.common.outbox.OutboxPurger;
+import vroong.laas.common.outbox.OutboxRelay;
+import vroong.laas.common.outbox.OutboxRelayMode;
+import vroong.laas.common.outbox.OutboxRelayProperties;
+import vroong.laas.common.outbox.OutboxRelayWaker;
+import vroong.laas.common.outbox.OutboxRetentionJob;
+import vroong.laas.common.outbox.OutboxSender;
+import vroong.laas.common.outbox.OutboxStore;
+import vroong.laas.common.outbox.jpa.BaseOutboxEvent;
+import vroong.laas.common.outbox.jpa.BaseOutboxEventRepository;
+import vroong.laas.common.outbox.jpa.JpaOutboxStore;
+import vroong.laas.common.outbox.jpa.binlog.JpaOutboxBinlogPositionStore;
+import vroong.laas.common.outbox.jpa.binlog.OutboxBinlogPositionEntity;
+import vroong.laas.common.outbox.jpa.binlog.OutboxBinlogPositionRepository;
+
+/**
+ * 공통 outbox relay 엔진 자동 설정
+ *
+ * <p>서비스는 {@link BaseOutboxEvent}를 상속한 엔티티, {@link BaseOutboxEventRepository}를 상속한 repository
+ * 하나와 {@link OutboxSender} 빈만 제공합니다. 나머지(relay, 지표, 정리, 스케줄 job)는 여기서 등록하고
+ * 설정은 {@code app.outbox}({@link OutboxProperties})에서 읽습니다.
+ */
+@AutoConfiguration
+@ConditionalOnBean(BaseOutboxEventRepository.class)
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxAutoConfiguration {
+
+  @Bean
+  public OutboxStore outboxStore(BaseOutboxEventRepository<?> outboxEventRepository) {
+    return jpaOutboxStore(outboxEventRepository);
+  }
+
+  @Bean
+  public OutboxMetrics outboxMetrics(
+      MeterRegistry meterRegistry,
+      OutboxStore outboxStore,
+      OutboxProperties outboxProperties) {
+    return new OutboxMetrics(meterRegistry, outboxStore, outboxProperties.metrics().refreshInterval());
+  }
+
+  @Bean
+  public OutboxRelay outboxRelay(
+      OutboxStore outboxStore,
+      OutboxSender outboxSender,
+      OutboxMetrics outboxMetrics,
+      OutboxProperties outboxProperties) {
+    return new OutboxRelay(outboxStore, outboxSender, outboxMetrics, outboxProperties.relay());
+  }
+
+  @Bean
+  public OutboxRelayWaker outboxRelayWaker(OutboxRelay outboxRelay, OutboxProperties outboxProperties) {
+    OutboxRelayProperties relay = outboxProperties.relay();
+    return new OutboxRelayWaker(outboxRelay, relay.batchSize(), relay.mode() == OutboxRelayMode.POLLING);
+  }
+
+  @Bean
+  public OutboxPurger outboxPurger(OutboxStore outboxStore) {
+    return new OutboxPurger(outboxStore);
+  }
+
+  @Bean
+  public OutboxPublishJob outboxPublishJob(OutboxRelay outboxRelay, OutboxProperties outboxProperties) {
+    return new OutboxPublishJob(outboxRelay, outboxProperties.relay().batchSize());
+  }
+
+  @Bean
+  public OutboxRetentionJob outboxRetentionJob(OutboxPurger outboxPurger, OutboxProperties outboxProperties) {
+    return new OutboxRetentionJob(outboxPurger, outboxProperties.retention());
+  }
+
+  private static <T extends BaseOutboxEvent> OutboxStore jpaOutboxStore(BaseOutboxEventRepository<T> repository) {
+    return new JpaOutboxStore<>(repository);
+  }
+
+  /**
+   * binlog 모드 전용 설정
+   *
+   * <p>binlog 위치 테이블({@code outbox_binlog_positions})의 엔티티 / repository는 이 모드에서만 등록하므로
+   * polling 모드 서비스에는 테이블이 생기지 않습니다.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnProperty(name = "app.outbox.relay.mode", havingValue = "binlog")
+  @EntityScan(basePackageClasses = OutboxBinlogPositionEntity.class)
+  @EnableJpaRepositories(basePackageClasses = OutboxBinlogPositionRepository.class)
+  static class BinlogConfiguration {
+
+    @Bean
+    public OutboxBinlogPositionStore outboxBinlogPositionStore(
+        OutboxBinlogPositionRepository outboxBinlogPositionRepository) {
+      return new JpaOutboxBinlogPositionStore(outboxBinlogPositionRepository);
+    }
+
+    @Bean
+    public OutboxBinlogRelay outboxBinlogRelay(
+        OutboxRelay outboxRelay,
+        OutboxBinlogPositionStore outboxBinlogPositionStore,
+        OutboxProperties outboxProperties) {
+      OutboxBinlogProperties binlog = outboxProperties.relay().binlog();
+      if (binlog == null) {
+        throw new IllegalStateException("app.outbox.relay.binlog is required when app.outbox.relay.mode=binlog");
+      }
+      return new OutboxBinlogRelay(binlog, outboxRelay, outboxBinlogPositionStore, outboxProperties.relay().batchSize());
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package vroong.laas.common.outbox.jpa;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+/**
+ * 서비스별 outbox 테이블의 공통 매핑
+ *
+ * <p>각 서비스는 이 클래스를 상속한 엔티티에 테이블 이름과 인덱스만 선언합니다.
+ * 상태 변경은 {@link BaseOutboxEventRepository}의 bulk UPDATE로만 이루어집니다.
+ */
+@MappedSuperclass
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public abstract class BaseOutboxEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "event_token")
+  private String eventToken;
+
+  @Column(name = "entity_key")
+  private String entityKey;
+
+  /**
+   * 이벤트 타입 (KafkaEventType 값, 발행 토픽 결정과 지표 태그에 사용)
+   */
+  @Column(name = "event_type")
+  private String eventType;
+
+  @Column(name = "satus")
+  @Enumerated(value = EnumType.STRING)
+  private OutboxEventStatus status;
+
+  @Column(name = "payload", columnDefinition = "TEXT")
+  private String payload;
+
+  @Column(name = "registered_at")
+  private Instant registeredAt;
+
+  @Column(name = "published_at")
+  private Instant publishedAt;
+
+  /**
+   * 이벤트를 선점한 relay 인스턴스
+   */
+  @Column(name = "lease_owner")
+  private String leaseOwner;
+
+  /**
+   * 선점 만료 시각 (만료되면 다른 인스턴스가 다시 선점할 수 있음)
+   */
+  @Column(name = "lease_expires_at")
+  private Instant leaseExpiresAt;
+
+  /**
+   * 발행 실패 횟수
+   */
+  @Column(name = "attempt_count", nullable = false)
+  private int attemptCount;
+
+  /**
+   * 다음 발행 시도 가능 시각 (null이면 즉시)
+   */
+  @Column(name = "next_attempt_at")
+  private Instant nextAttemptAt;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  @CreationTimestamp
+  private Instant createdAt;
+
+  @Column(name = "modified_at", nullable = false)
+  @UpdateTimestamp
+  @Getter(AccessLevel.NONE)
+  private Instant modifiedAt;
+
+  /**
+   * 발행 대기(REGISTERED) 상태의 이벤트를 만듭니다.
+   */
+  protected BaseOutboxEvent(String eventToken, String entityKey, String eventType, String payload) {
+    this.eventToken = eventToken;
+    this.entityKey = entityKey;
+    this.eventType = eventType;
+    this.payload = payload;
+    this.status = OutboxEventStatus.REGISTERED;
+    this.registeredAt = Instant.now();
+  }
+}
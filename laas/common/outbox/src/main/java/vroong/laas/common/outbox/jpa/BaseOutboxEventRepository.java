@@ -0,0 +1,172 @@
+package vroong.laas.common.outbox.jpa;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 서비스별 outbox repository의 공통 쿼리
+ *
+ * <p>{@code #{#entityName}}으로 상속한 엔티티를 가리키므로, 서비스는 빈 인터페이스만 선언하면 됩니다.
+ */
+@NoRepositoryBean
+public interface BaseOutboxEventRepository<T extends BaseOutboxEvent> extends JpaRepository<T, Long> {
+
+  long countByStatus(OutboxEventStatus status);
+
+  @Query("select min(e.registeredAt) from #{#entityName} e where e.status = :status")
+  Instant findOldestRegisteredAt(@Param("status") OutboxEventStatus status);
+
+  /**
+   * entityKey별 가장 앞선 미발행 이벤트(head) 중 발행할 수 있는 것을 잠급니다.
+   *
+   * <p>같은 entityKey에 앞선 REGISTERED 이벤트가 하나라도 있으면 head가 아니므로, 선점 여부와 관계없이 제외됩니다.
+   * 다른 relay가 head를 잠갔거나 선점 중이면 그 entityKey는 통째로 건너뛰게 되어,
+   * 두 relay가 같은 entityKey의 N번째와 N+1번째 이벤트를 나눠 갖는 일이 없습니다.
+   *
+   * <p>{@code SELECT ... FOR UPDATE SKIP LOCKED}로 조회하므로 다른 인스턴스가 잠근 행은 기다리지 않고 건너뜁니다.
+   * 재시도 시각이 되지 않은 head는 그 entityKey 전체를 대기시키고, FAILED로 격리된 이벤트는 뒤 이벤트를 막지 않습니다.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("""
+      select e
+        from #{#entityName} e
+       where e.status = vroong.laas.common.outbox.jpa.OutboxEventStatus.REGISTERED
+         and (e.leaseExpiresAt is null or e.leaseExpiresAt < :now)
+         and (e.nextAttemptAt is null or e.nextAttemptAt <= :now)
+         and not exists (
+             select 1
+               from #{#entityName} p
+              where p.entityKey = e.entityKey
+                and p.status = vroong.laas.common.outbox.jpa.OutboxEventStatus.REGISTERED
+                and p.id < e.id)
+       order by e.id asc
+      """)
+  List<T> findClaimableHeads(
+      @Param("now") Instant now,
+      Pageable pageable);
+
+  /**
+   * head를 잠근 entityKey의 뒤따르는 미발행 이벤트를 오래된 순서로 잠급니다.
+   *
+   * <p>head를 잠근 트랜잭션만 호출하므로 다른 relay와 경합하지 않습니다.
+   * 선점 중이거나 재시도 대기 중인 이벤트에서 끊는 것은 호출하는 쪽이 처리합니다.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("""
+      select e
+        from #{#entityName} e
+       where e.entityKey in :entityKeys
+         and e.status = vroong.laas.common.outbox.jpa.OutboxEventStatus.REGISTERED
+         and e.id not in :headIds
+       order by e.id asc
+      """)
+  List<T> findFollowers(
+      @Param("entityKeys") Collection<String> entityKeys,
+      @Param("headIds") Collection<Long> headIds,
+      Pageable pageable);
+
+  /**
+   * 잠근 이벤트에 선점 정보(owner, 만료 시각)를 기록합니다.
+   */
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("""
+      update #{#entityName} e
+         set e.leaseOwner = :owner,
+             e.leaseExpiresAt = :leaseExpiresAt
+       where e.id in :ids
+      """)
+  int lease(
+      @Param("ids") Collection<Long> ids,
+      @Param("owner") String owner,
+      @Param("leaseExpiresAt") Instant leaseExpiresAt);
+
+  /**
+   * 발행 완료된 이벤트를 한 번의 UPDATE로 PUBLISHED 처리합니다.
+   *
+   * <p>선점한 인스턴스의 행만 갱신하므로, 선점이 만료되어 다른 인스턴스로 넘어간 행은 건드리지 않습니다.
+   */
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("""
+      update #{#entityName} e
+         set e.status = vroong.laas.common.outbox.jpa.OutboxEventStatus.PUBLISHED,
+             e.publishedAt = :publishedAt,
+             e.modifiedAt = :publishedAt
+       where e.id in :ids
+         and e.leaseOwner = :owner
+      """)
+  int markAsPublished(
+      @Param("ids") Collection<Long> ids,
+      @Param("owner") String owner,
+      @Param("publishedAt") Instant publishedAt);
+
+  /**
+   * 발행하지 않은 이벤트의 선점을 해제해 바로 다시 선점할 수 있게 합니다.
+   */
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("""
+      update #{#entityName} e
+         set e.leaseOwner = null,
+             e.leaseExpiresAt = null
+       where e.id in :ids
+         and e.leaseOwner = :owner
+      """)
+  int release(
+      @Param("ids") Collection<Long> ids,
+      @Param("owner") String owner);
+
+  /**
+   * 발행에 실패한 이벤트의 시도 횟수를 올리고 선점을 해제합니다.
+   *
+   * <p>다음 시도 시각 전까지는 선점 대상에서 제외되며, 최대 시도 횟수를 넘기면 FAILED로 격리됩니다.
+   */
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("""
+      update #{#entityName} e
+         set e.status = :status,
+             e.attemptCount = e.attemptCount + 1,
+             e.nextAttemptAt = :nextAttemptAt,
+             e.leaseOwner = null,
+             e.leaseExpiresAt = null,
+             e.modifiedAt = :now
+       where e.id = :id
+         and e.leaseOwner = :owner
+      """)
+  int markAsFailed(
+      @Param("id") Long id,
+      @Param("owner") String owner,
+      @Param("status") OutboxEventStatus status,
+      @Param("nextAttemptAt") Instant nextAttemptAt,
+      @Param("now") Instant now);
+
+  /**
+   * 보관 기간이 지난 PUBLISHED 이벤트의 id를 오래된 순서로 조회합니다.
+   */
+  @Query("""
+      select e.id
+        from #{#entityName} e
+       where e.status = vroong.laas.common.outbox.jpa.OutboxEventStatus.PUBLISHED
+         and e.publishedAt < :publishedBefore
+       order by e.id asc
+      """)
+  List<Long> findPublishedIdsBefore(
+      @Param("publishedBefore") Instant publishedBefore,
+      Pageable pageable);
+
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("delete from #{#entityName} e where e.id in :ids")
+  int deleteAllByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,145 @@
+package vroong.laas.common.outbox.jpa;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+import vroong.laas.common.outbox.OutboxRecord;
+import vroong.laas.common.outbox.OutboxStore;
+
+/**
+ * {@link BaseOutboxEventRepository} 기반 {@link OutboxStore}
+ *
+ * <p>서비스는 자신의 outbox repository로 이 클래스를 빈으로 등록해 공통 relay 엔진에 연결합니다.
+ */
+public class JpaOutboxStore<T extends BaseOutboxEvent> implements OutboxStore {
+
+  private final BaseOutboxEventRepository<T> outboxEventRepository;
+
+  public JpaOutboxStore(BaseOutboxEventRepository<T> outboxEventRepository) {
+    this.outboxEventRepository = outboxEventRepository;
+  }
+
+  /**
+   * entityKey별 head를 먼저 잠근 뒤, 같은 트랜잭션에서 그 entityKey의 뒤따르는 이벤트를 이어서 선점합니다.
+   *
+   * <p>뒤따르는 이벤트는 선점 중이거나 재시도 대기 중인 이벤트를 만나면 거기서 끊어,
+   * 선점한 구간이 entityKey마다 끊김 없이 이어지도록 합니다.
+   */
+  @Transactional
+  @Override
+  public List<OutboxRecord> claim(int size, String owner, Instant now, Instant leaseExpiresAt) {
+    List<T> heads = outboxEventRepository.findClaimableHeads(now, PageRequest.of(0, size));
+
+    if (heads.isEmpty()) {
+      return List.of();
+    }
+
+    List<T> claimed = new ArrayList<>(heads);
+    if (heads.size() < size) {
+      claimed.addAll(contiguousFollowers(heads, size - heads.size(), now));
+    }
+    claimed.sort(Comparator.comparing(BaseOutboxEvent::getId));
+
+    List<OutboxRecord> records = claimed.stream()
+        .map(JpaOutboxStore::toRecord)
+        .toList();
+
+    outboxEventRepository.lease(
+        records.stream().map(OutboxRecord::id).toList(),
+        owner,
+        leaseExpiresAt);
+
+    return records;
+  }
+
+  @Transactional
+  @Override
+  public int markAsPublished(Collection<Long> ids, String owner, Instant publishedAt) {
+    return outboxEventRepository.markAsPublished(ids, owner, publishedAt);
+  }
+
+  @Transactional
+  @Override
+  public int release(Collection<Long> ids, String owner) {
+    return outboxEventRepository.release(ids, owner);
+  }
+
+  @Transactional
+  @Override
+  public void markAsFailed(Long id, String owner, boolean quarantine, Instant nextAttemptAt, Instant now) {
+    outboxEventRepository.markAsFailed(
+        id,
+        owner,
+        quarantine ? OutboxEventStatus.FAILED : OutboxEventStatus.REGISTERED,
+        nextAttemptAt,
+        now);
+  }
+
+  @Override
+  public long countPending() {
+    return outboxEventRepository.countByStatus(OutboxEventStatus.REGISTERED);
+  }
+
+  @Override
+  public Instant findOldestPendingRegisteredAt() {
+    return outboxEventRepository.findOldestRegisteredAt(OutboxEventStatus.REGISTERED);
+  }
+
+  @Override
+  public List<Long> findPublishedIdsBefore(Instant publishedBefore, int size) {
+    return outboxEventRepository.findPublishedIdsBefore(publishedBefore, PageRequest.of(0, size));
+  }
+
+  @Override
+  public int deleteAllByIds(Collection<Long> ids) {
+    return outboxEventRepository.deleteAllByIds(ids);
+  }
+
+  private List<T> contiguousFollowers(List<T> heads, int size, Instant now) {
+    Set<String> entityKeys = heads.stream()
+        .map(BaseOutboxEvent::getEntityKey)
+        .collect(Collectors.toSet());
+    List<T> followers = outboxEventRepository.findFollowers(
+        entityKeys,
+        heads.stream().map(BaseOutboxEvent::getId).toList(),
+        PageRequest.of(0, size));
+
+    Set<String> stoppedKeys = new HashSet<>();
+    List<T> contiguous = new ArrayList<>(followers.size());
+    for (T follower : followers) {
+      if (stoppedKeys.contains(follower.getEntityKey())) {
+        continue;
+      }
+      if (isClaimable(follower, now)) {
+        contiguous.add(follower);
+      } else {
+        stoppedKeys.add(follower.getEntityKey());
+      }
+    }
+    return contiguous;
+  }
+
+  private static boolean isClaimable(BaseOutboxEvent entity, Instant now) {
+    boolean leased = entity.getLeaseExpiresAt() != null && !entity.getLeaseExpiresAt().isBefore(now);
+    boolean waiting = entity.getNextAttemptAt() != null && entity.getNextAttemptAt().isAfter(now);
+    return !leased && !waiting;
+  }
+
+  private static OutboxRecord toRecord(BaseOutboxEvent entity) {
+    return new OutboxRecord(
+        entity.getId(),
+        entity.getEventToken(),
+        entity.getEntityKey(),
+        entity.getEventType(),
+        entity.getPayload(),
+        entity.getRegisteredAt(),
+        entity.getAttemptCount());
+  }
+}
@@ -0,0 +1,7 @@
+package vroong.laas.common.outbox.jpa;
+
+public enum OutboxEventStatus {
+  REGISTERED,
+  PUBLISHED,
+  FAILED
+}
@@ -0,0 +1,35 @@
+package vroong.laas.common.outbox.jpa.binlog;
+
+import org.springframework.transaction.annotation.Transactional;
+import vroong.laas.common.outbox.OutboxBinlogPosition;
+import vroong.laas.common.outbox.OutboxBinlogPositionStore;
+
+/**
+ * {@link OutboxBinlogPositionRepository} 기반 {@link OutboxBinlogPositionStore}
+ */
+public class JpaOutboxBinlogPositionStore implements OutboxBinlogPositionStore {
+
+  private final OutboxBinlogPositionRepository outboxBinlogPositionRepository;
+
+  public JpaOutboxBinlogPositionStore(OutboxBinlogPositionRepository outboxBinlogPositionRepository) {
+    this.outboxBinlogPositionRepository = outboxBinlogPositionRepository;
+  }
+
+  @Transactional(readOnly = true)
+  @Override
+  public OutboxBinlogPosition load(String relayName) {
+    return outboxBinlogPositionRepository.findById(relayName)
+        .map(entity -> new OutboxBinlogPosition(entity.getBinlogFilename(), entity.getBinlogPosition()))
+        .orElse(null);
+  }
+
+  @Transactional
+  @Override
+  public void save(String relayName, OutboxBinlogPosition position) {
+    outboxBinlogPositionRepository.findById(relayName)
+        .ifPresentOrElse(
+            entity -> entity.moveTo(position.filename(), position.position()),
+            () -> outboxBinlogPositionRepository.save(
+                new OutboxBinlogPositionEntity(relayName, position.filename(), position.position())));
+  }
+}
@@ -0,0 +1,46 @@
+package vroong.laas.common.outbox.jpa.binlog;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+@Getter
+@Entity
+@Table(name = "outbox_binlog_positions")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxBinlogPositionEntity {
+
+  /**
+   * binlog relay 이름 (outbox 테이블이 있는 스키마)
+   */
+  @Id
+  @Column(name = "relay_name")
+  private String relayName;
+
+  @Column(name = "binlog_filename", nullable = false)
+  private String binlogFilename;
+
+  @Column(name = "binlog_position", nullable = false)
+  private long binlogPosition;
+
+  @Column(name = "modified_at", nullable = false)
+  @UpdateTimestamp
+  private Instant modifiedAt;
+
+  public OutboxBinlogPositionEntity(String relayName, String binlogFilename, long binlogPosition) {
+    this.relayName = relayName;
+    this.binlogFilename = binlogFilename;
+    this.binlogPosition = binlogPosition;
+  }
+
+  public void moveTo(String binlogFilename, long binlogPosition) {
+    this.binlogFilename = binlogFilename;
+    this.binlogPosition = binlogPosition;
+  }
+}
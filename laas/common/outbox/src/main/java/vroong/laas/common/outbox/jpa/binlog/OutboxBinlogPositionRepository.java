@@ -0,0 +1,7 @@
+package vroong.laas.common.outbox.jpa.binlog;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxBinlogPositionRepository extends JpaRepository<OutboxBinlogPositionEntity, String> {
+
+}
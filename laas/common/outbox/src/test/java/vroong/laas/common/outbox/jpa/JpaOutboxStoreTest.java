@@ -0,0 +1,113 @@
+package vroong.laas.common.outbox.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import vroong.laas.common.outbox.OutboxRecord;
+
+@DataJpaTest
+class JpaOutboxStoreTest {
+
+  private static final Duration LEASE = Duration.ofSeconds(30);
+
+  @Autowired
+  private TestOutboxEventRepository repository;
+
+  private JpaOutboxStore<TestOutboxEvent> store;
+
+  @BeforeEach
+  void setUp() {
+    store = new JpaOutboxStore<>(repository);
+  }
+
+  @Test
+  void claim_entityKey별_head와_뒤따르는_이벤트를_id_순서로_선점한다() {
+    Long a1 = append("A");
+    Long b1 = append("B");
+    Long a2 = append("A");
+    Long a3 = append("A");
+
+    List<OutboxRecord> records = claim("relay-1", 10);
+
+    assertThat(records).extracting(OutboxRecord::id).containsExactly(a1, b1, a2, a3);
+  }
+
+  @Test
+  void claim_head가_선점된_entityKey의_뒤_이벤트는_다른_relay가_선점하지_않는다() {
+    Long a1 = append("A");
+    append("A");
+    Long b1 = append("B");
+
+    List<OutboxRecord> first = claim("relay-1", 1);
+    List<OutboxRecord> second = claim("relay-2", 10);
+
+    assertThat(first).extracting(OutboxRecord::id).containsExactly(a1);
+    assertThat(second).extracting(OutboxRecord::id).containsExactly(b1);
+  }
+
+  @Test
+  void claim_재시도_대기중인_이벤트에서_선점을_끊는다() {
+    Long a1 = append("A");
+    Long a2 = append("A");
+    append("A");
+
+    Instant now = Instant.now();
+    claim("relay-1", 10);
+    store.markAsFailed(a2, "relay-1", false, now.plus(Duration.ofMinutes(1)), now);
+    store.release(List.of(a1), "relay-1");
+
+    List<OutboxRecord> records = claim("relay-2", 10);
+
+    assertThat(records).extracting(OutboxRecord::id).containsExactly(a1);
+  }
+
+  @Test
+  void claim_재시도_대기중인_head는_entityKey_전체를_대기시킨다() {
+    Long a1 = append("A");
+    append("A");
+
+    Instant now = Instant.now();
+    claim("relay-1", 1);
+    store.markAsFailed(a1, "relay-1", false, now.plus(Duration.ofMinutes(1)), now);
+
+    assertThat(claim("relay-2", 10)).isEmpty();
+  }
+
+  @Test
+  void claim_FAILED로_격리된_이벤트는_뒤_이벤트를_막지_않는다() {
+    Long a1 = append("A");
+    Long a2 = append("A");
+
+    Instant now = Instant.now();
+    claim("relay-1", 1);
+    store.markAsFailed(a1, "relay-1", true, null, now);
+
+    assertThat(claim("relay-2", 10)).extracting(OutboxRecord::id).containsExactly(a2);
+  }
+
+  @Test
+  void claim_선점이_만료된_이벤트는_다시_선점한다() {
+    Long a1 = append("A");
+    Long a2 = append("A");
+
+    Instant now = Instant.now();
+    store.claim(10, "relay-1", now, now.minusSeconds(1));
+
+    assertThat(claim("relay-2", 10)).extracting(OutboxRecord::id).containsExactly(a1, a2);
+  }
+
+  private Long append(String entityKey) {
+    return repository.saveAndFlush(new TestOutboxEvent("token", entityKey, "test.event", "{}")).getId();
+  }
+
+  private List<OutboxRecord> claim(String owner, int size) {
+    Instant now = Instant.now();
+    return store.claim(size, owner, now, now.plus(LEASE));
+  }
+}
@@ -0,0 +1,8 @@
+package vroong.laas.common.outbox.jpa;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+class OutboxJpaTestApplication {
+
+}
@@ -0,0 +1,16 @@
+package vroong.laas.common.outbox.jpa;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "outbox_events")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+class TestOutboxEvent extends BaseOutboxEvent {
+
+  TestOutboxEvent(String eventToken, String entityKey, String eventType, String payload) {
+    super(eventToken, entityKey, eventType, payload);
+  }
+}
@@ -0,0 +1,5 @@
+package vroong.laas.common.outbox.jpa;
+
+interface TestOutboxEventRepository extends BaseOutboxEventRepository<TestOutboxEvent> {
+
+}
@@ -9,6 +9,8 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 import vroong.laas.common.event.KafkaEvent;
 import vroong.laas.common.event.KafkaEventPayload;
+import vroong.laas.common.event.KafkaEventType;
+import vroong.laas.common.event.LazyKafkaEvent;
 import vroong.laas.common.event.payload.dispatch.DispatchDispatchedEventPayload;
 import vroong.laas.delivery.core.application.delivery.DeliveryFacade;
 import vroong.laas.delivery.core.domain.delivery.command.RegisterDeliveryCommand;
@@ -25,19 +27,33 @@ public class DispatchEventListener {
       errorHandler = "kafkaErrorHandler",
       containerFactory = "kafkaListenerContainerFactory"
   )
-  public void handle(@Payload String payloadJson, Acknowledgment ack) {
-    log.info("handleOrderEvent start, payload={}", payloadJson);
-    KafkaEvent<KafkaEventPayload> kafkaEvent = KafkaEvent.fromJson(payloadJson);
+  public void handle(@Payload LazyKafkaEvent kafkaEvent, Acknowledgment ack) {
+    // 타입은 헤더에서 읽고, 처리하는 타입만 payload를 디코딩
+    KafkaEventType type = kafkaEvent.getType();
+    log.info("handleDispatchEvent start, eventId={}, type={}", kafkaEvent.getEventId(), type);
 
-    switch (kafkaEvent.getType()) {
-      case DISPATCH_DISPATCH_DISPATCHED -> handleDispatchDispatched(kafkaEvent);
+    if (type == null) {
+      // 이 버전이 모르는 타입(프로듀서가 먼저 배포된 경우 등)이나 타입이 없는 메시지는 처리하지 않음
+      log.warn("handleDispatchEvent skipped. unknown event type, eventId={}", kafkaEvent.getEventId());
+    } else {
+      switch (type) {
+        case DISPATCH_DISPATCH_DISPATCHED -> handleDispatchDispatched(kafkaEvent);
+        default -> {
+        }
+      }
     }
 
     ack.acknowledge();
-    log.info("handleOrderEvent end,");
+    log.info("handleDispatchEvent end, eventId={}", kafkaEvent.getEventId());
   }
 
-  private void handleDispatchDispatched(KafkaEvent<KafkaEventPayload> kafkaEvent) {
+  private void handleDispatchDispatched(LazyKafkaEvent lazyKafkaEvent) {
+    KafkaEvent<KafkaEventPayload> kafkaEvent = lazyKafkaEvent.decode();
+    if (kafkaEvent == null) {
+      log.warn("handleDispatchDispatched skipped. undecodable event, eventId={}", lazyKafkaEvent.getEventId());
+      return;
+    }
+
     DispatchDispatchedEventPayload payload = (DispatchDispatchedEventPayload) kafkaEvent.getPayload();
     deliveryFacade.registerDelivery(
         new RegisterDeliveryCommand(
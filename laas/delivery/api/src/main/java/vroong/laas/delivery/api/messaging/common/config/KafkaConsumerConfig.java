@@ -12,6 +12,7 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.listener.ContainerProperties.AckMode;
+import vroong.laas.common.event.serde.LazyKafkaEventDeserializer;
 
 @EnableKafka
 @Configuration
@@ -29,7 +30,8 @@ public class KafkaConsumerConfig {
     configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
     configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
     configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-    configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+    // 리스너가 event-type 헤더로 거른 뒤 필요한 이벤트만 디코딩 (JSON/Avro는 content-type 헤더로 판별)
+    configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, LazyKafkaEventDeserializer.class);
 
     return new DefaultKafkaConsumerFactory<>(configProps);
   }
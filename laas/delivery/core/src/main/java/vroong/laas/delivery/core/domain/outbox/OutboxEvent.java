@@ -1,55 +1,28 @@
 package vroong.laas.delivery.core.domain.outbox;
 
-import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
-import java.time.Instant;
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 import lombok.NoArgsConstructor;
-import vroong.laas.delivery.core.domain.BaseEntity;
+import vroong.laas.common.outbox.jpa.BaseOutboxEvent;
 
-@Getter
 @Entity
-@Table(name = "outbox_events")
+@Table(
+    name = "outbox_events",
+    indexes = {
+        @Index(name = "idx_outbox_events_satus_id", columnList = "satus, id"),
+        @Index(name = "idx_outbox_events_entity_key_satus_id", columnList = "entity_key, satus, id"),
+        @Index(name = "idx_outbox_events_satus_published_at", columnList = "satus, published_at")
+    })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
-public class OutboxEvent extends BaseEntity {
+public class OutboxEvent extends BaseOutboxEvent {
 
-  @Column(name = "event_token")
-  private String eventToken;
-
-  @Column(name = "entity_key")
-  private String entityKey;
-
-  @Column(name = "satus")
-  @Enumerated(value = EnumType.STRING)
-  private OutboxEventStatus status;
-
-  @Column(name = "payload", columnDefinition = "TEXT")
-  private String payload;
-
-  @Column(name = "registered_at")
-  private Instant registeredAt;
-
-  @Column(name = "published_at")
-  private Instant publishedAt;
-
-  public static OutboxEvent register(String eventToken, String entityKey, String payload) {
-    return new OutboxEvent(
-        eventToken,
-        entityKey,
-        OutboxEventStatus.REGISTERED,
-        payload,
-        Instant.now(),
-        null);
+  private OutboxEvent(String eventToken, String entityKey, String eventType, String payload) {
+    super(eventToken, entityKey, eventType, payload);
   }
 
-  public void markAsPublished() {
-    this.status = OutboxEventStatus.PUBLISHED;
-    this.publishedAt = Instant.now();
+  public static OutboxEvent register(String eventToken, String entityKey, String eventType, String payload) {
+    return new OutboxEvent(eventToken, entityKey, eventType, payload);
   }
 }
@@ -4,6 +4,7 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import vroong.laas.common.outbox.OutboxRelayWaker;
 import vroong.laas.delivery.core.domain.delivery.Delivery;
 import vroong.laas.delivery.core.domain.delivery.DeliveryHistory;
 
@@ -14,6 +15,7 @@ public class OutboxEventAppender {
 
   private final OutboxEventPayloadGenerator payloadGenerator;
   private final OutboxEventRepository outboxEventRepository;
+  private final OutboxRelayWaker outboxRelayWaker;
 
   @Transactional
   public void append(OutboxEventType eventType, Delivery delivery, DeliveryHistory history) {
@@ -22,9 +24,11 @@ public class OutboxEventAppender {
     OutboxEvent outboxEvent = OutboxEvent.register(
         UUID.randomUUID().toString(),
         delivery.getId().toString(),
+        payloadGenerator.kafkaEventType(eventType).getValue(),
         payload);
 
     outboxEventRepository.save(outboxEvent);
+    outboxRelayWaker.wakeUpAfterCommit();
   }
 
 }
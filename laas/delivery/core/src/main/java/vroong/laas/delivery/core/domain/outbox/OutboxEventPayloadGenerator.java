@@ -1,5 +1,6 @@
 package vroong.laas.delivery.core.domain.outbox;
 
+import static vroong.laas.common.event.KafkaEventType.DELIVERY_DELIVERY_CANCELLED;
 import static vroong.laas.common.event.KafkaEventType.DELIVERY_DELIVERY_DELIVERED;
 import static vroong.laas.common.event.KafkaEventType.DELIVERY_DELIVERY_PICKED_UP;
 import static vroong.laas.common.event.KafkaEventType.DELIVERY_DELIVERY_STARTED;
@@ -29,6 +30,15 @@ public class OutboxEventPayloadGenerator {
 
   }
 
+  public KafkaEventType kafkaEventType(OutboxEventType eventType) {
+    return switch (eventType) {
+      case DELIVERY_STARTED -> DELIVERY_DELIVERY_STARTED;
+      case DELIVERY_PICKED_UP -> DELIVERY_DELIVERY_PICKED_UP;
+      case DELIVERY_DELIVERED -> DELIVERY_DELIVERY_DELIVERED;
+      case DELIVERY_CANCELLED -> DELIVERY_DELIVERY_CANCELLED;
+    };
+  }
+
   private String generateDeliveryStartedPayload(Delivery delivery, DeliveryHistory history) {
     var payload = DeliveryStartedEventPayload.builder()
         .deliveryId(delivery.getId())
@@ -1,11 +1,7 @@
 package vroong.laas.delivery.core.domain.outbox;
 
-import java.util.List;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
+import vroong.laas.common.outbox.jpa.BaseOutboxEventRepository;
 
-public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
-
-  List<OutboxEvent> findByStatusOrderByCreatedAtDesc(OutboxEventStatus status, Pageable pageable);
+public interface OutboxEventRepository extends BaseOutboxEventRepository<OutboxEvent> {
 
 }
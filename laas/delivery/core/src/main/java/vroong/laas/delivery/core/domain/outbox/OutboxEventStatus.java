@@ -1,6 +0,0 @@
-package vroong.laas.delivery.core.domain.outbox;
-
-public enum OutboxEventStatus {
-  REGISTERED,
-  PUBLISHED
-}
@@ -2,13 +2,17 @@ package vroong.laas.delivery.infrastructure.common.config;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import vroong.laas.common.outbox.KafkaOutboxSender;
+import vroong.laas.common.outbox.OutboxSender;
 
 @Configuration
 class MessageRelayKafkaConfig {
@@ -17,13 +21,27 @@ class MessageRelayKafkaConfig {
   private String bootstrapServers;
 
   @Bean
-  public KafkaTemplate<String, String> messageRelaykafkaTemplate() {
+  public KafkaTemplate<String, byte[]> messageRelaykafkaTemplate() {
     Map<String, Object> configs = new HashMap<>();
     configs.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
     configs.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-    configs.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    configs.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
     configs.put(ProducerConfig.ACKS_CONFIG, "all");
+    // 재시도가 일어나도 파티션(entityKey) 내 순서가 뒤바뀌지 않도록 멱등 프로듀서 사용
+    configs.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+    configs.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+    // 한 페이지를 비동기로 몰아 보내므로 짧게 모아서 배치 전송
+    configs.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+    configs.put(ProducerConfig.BATCH_SIZE_CONFIG, 64 * 1024);
 
     return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(configs));
   }
+
+  @Bean
+  public OutboxSender outboxSender(
+      KafkaTemplate<String, byte[]> messageRelaykafkaTemplate,
+      // Avro 바이너리로 보낼 토픽 목록 (비어 있으면 모두 JSON)
+      @Value("${app.outbox.kafka.avro-topics:}") Set<String> avroTopics) {
+    return new KafkaOutboxSender(messageRelaykafkaTemplate, avroTopics);
+  }
 }
@@ -9,6 +9,8 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 import vroong.laas.common.event.KafkaEvent;
 import vroong.laas.common.event.KafkaEventPayload;
+import vroong.laas.common.event.KafkaEventType;
+import vroong.laas.common.event.LazyKafkaEvent;
 import vroong.laas.common.event.payload.order.OrderCreatedEventPayload;
 import vroong.laas.dispatch.core.application.dispatch.DispatchFacade;
 import vroong.laas.dispatch.core.domain.dispatch.command.RequestDispatchCommand;
@@ -25,19 +27,33 @@ public class OrderEventListener {
       errorHandler = "kafkaErrorHandler",
       containerFactory = "kafkaListenerContainerFactory"
   )
-  public void handle(@Payload String payloadJson, Acknowledgment ack) {
-    log.info("handleOrderEvent start, payload={}", payloadJson);
-    KafkaEvent<KafkaEventPayload> kafkaEvent = KafkaEvent.fromJson(payloadJson);
-
-    switch (kafkaEvent.getType()) {
-      case ORDER_ORDER_CREATED -> handleOrderCreated(kafkaEvent);
+  public void handle(@Payload LazyKafkaEvent kafkaEvent, Acknowledgment ack) {
+    // 타입은 헤더에서 읽고, 처리하는 타입만 payload를 디코딩
+    KafkaEventType type = kafkaEvent.getType();
+    log.info("handleOrderEvent start, eventId={}, type={}", kafkaEvent.getEventId(), type);
+
+    if (type == null) {
+      // 이 버전이 모르는 타입(프로듀서가 먼저 배포된 경우 등)이나 타입이 없는 메시지는 처리하지 않음
+      log.warn("handleOrderEvent skipped. unknown event type, eventId={}", kafkaEvent.getEventId());
+    } else {
+      switch (type) {
+        case ORDER_ORDER_CREATED -> handleOrderCreated(kafkaEvent);
+        default -> {
+        }
+      }
     }
 
     ack.acknowledge();
-    log.info("handleOrderEvent end,");
+    log.info("handleOrderEvent end, eventId={}", kafkaEvent.getEventId());
   }
 
-  private void handleOrderCreated(KafkaEvent<KafkaEventPayload> kafkaEvent) {
+  private void handleOrderCreated(LazyKafkaEvent lazyKafkaEvent) {
+    KafkaEvent<KafkaEventPayload> kafkaEvent = lazyKafkaEvent.decode();
+    if (kafkaEvent == null) {
+      log.warn("handleOrderCreated skipped. undecodable event, eventId={}", lazyKafkaEvent.getEventId());
+      return;
+    }
+
     OrderCreatedEventPayload payload = (OrderCreatedEventPayload) kafkaEvent.getPayload();
     dispatchFacade.requestDispatch(new RequestDispatchCommand(payload.getOrderId(), Instant.now()));
   }
@@ -1,6 +0,0 @@
-package vroong.laas.dispatch.core.enums.outbox;
-
-public enum OutboxEventStatus {
-  REGISTERED,
-  PUBLISHED
-}
@@ -1,12 +1,11 @@
 package vroong.laas.dispatch.core.domain.outbox;
 
-import java.time.Instant;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import vroong.laas.common.outbox.OutboxRelayWaker;
 import vroong.laas.dispatch.core.domain.dispatch.Dispatch;
-import vroong.laas.dispatch.core.enums.outbox.OutboxEventStatus;
 import vroong.laas.dispatch.core.enums.outbox.OutboxEventType;
 import vroong.laas.dispatch.data.entity.outbox.OutboxEventEntity;
 import vroong.laas.dispatch.data.entity.outbox.OutboxEventRepository;
@@ -17,6 +16,7 @@ public class OutboxEventAppender {
 
   private final OutboxEventPayloadGenerator payloadGenerator;
   private final OutboxEventRepository outboxEventRepository;
+  private final OutboxRelayWaker outboxRelayWaker;
 
   @Transactional
   public void append(OutboxEventType eventType, Dispatch dispatch) {
@@ -25,12 +25,12 @@ public class OutboxEventAppender {
     OutboxEventEntity outboxEventEntity = OutboxEventEntity.builder()
         .eventToken(UUID.randomUUID().toString())
         .entityKey(dispatch.id().toString())
+        .eventType(payloadGenerator.kafkaEventType(eventType).getValue())
         .payload(payload)
-        .status(OutboxEventStatus.REGISTERED)
-        .registeredAt(Instant.now())
         .build();
 
     outboxEventRepository.save(outboxEventEntity);
+    outboxRelayWaker.wakeUpAfterCommit();
   }
 
 }
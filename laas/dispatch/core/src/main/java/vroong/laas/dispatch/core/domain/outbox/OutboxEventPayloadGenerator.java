@@ -24,6 +24,13 @@ public class OutboxEventPayloadGenerator {
     };
   }
 
+  public KafkaEventType kafkaEventType(OutboxEventType eventType) {
+    return switch (eventType) {
+      case DISPATCH_REQUESTED -> DISPATCH_DISPATCH_REQUESTED;
+      case DISPATCH_DISPATCHED -> DISPATCH_DISPATCH_DISPATCHED;
+    };
+  }
+
   private KafkaEvent<KafkaEventPayload> generateKafkaEvent(
       KafkaEventType eventType,
       KafkaEventPayload payload) {
@@ -1,61 +1,26 @@
 package vroong.laas.dispatch.data.entity.outbox;
 
-import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
-import java.time.Instant;
 import lombok.AccessLevel;
 import lombok.Builder;
-import lombok.Getter;
 import lombok.NoArgsConstructor;
-import vroong.laas.dispatch.core.enums.outbox.OutboxEventStatus;
-import vroong.laas.dispatch.data.entity.BaseEntity;
+import vroong.laas.common.outbox.jpa.BaseOutboxEvent;
 
-@Getter
 @Entity
-@Table(name = "outbox_events")
+@Table(
+    name = "outbox_events",
+    indexes = {
+        @Index(name = "idx_outbox_events_satus_id", columnList = "satus, id"),
+        @Index(name = "idx_outbox_events_entity_key_satus_id", columnList = "entity_key, satus, id"),
+        @Index(name = "idx_outbox_events_satus_published_at", columnList = "satus, published_at")
+    })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class OutboxEventEntity extends BaseEntity {
-
-  @Column(name = "event_token")
-  private String eventToken;
-
-  @Column(name = "entity_key")
-  private String entityKey;
-
-  @Column(name = "satus")
-  @Enumerated(value = EnumType.STRING)
-  private OutboxEventStatus status;
-
-  @Column(name = "payload", columnDefinition = "TEXT")
-  private String payload;
-
-  @Column(name = "registered_at")
-  private Instant registeredAt;
-
-  @Column(name = "published_at")
-  private Instant publishedAt;
+public class OutboxEventEntity extends BaseOutboxEvent {
 
   @Builder
-  public OutboxEventEntity(
-      String eventToken,
-      String entityKey,
-      String payload,
-      OutboxEventStatus status,
-      Instant registeredAt,
-      Instant publishedAt) {
-    this.eventToken = eventToken;
-    this.entityKey = entityKey;
-    this.payload = payload;
-    this.status = status;
-    this.registeredAt = registeredAt;
-    this.publishedAt = publishedAt;
-  }
-
-  public void markAsPublished() {
-    this.status = OutboxEventStatus.PUBLISHED;
-    this.publishedAt = Instant.now();
+  public OutboxEventEntity(String eventToken, String entityKey, String eventType, String payload) {
+    super(eventToken, entityKey, eventType, payload);
   }
 }
@@ -1,6 +0,0 @@
-package vroong.laas.order.core.enums.outbox;
-
-public enum OutboxEventStatus {
-  REGISTERED,
-  PUBLISHED
-}
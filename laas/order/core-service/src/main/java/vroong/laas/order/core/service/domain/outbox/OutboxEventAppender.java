@@ -5,7 +5,8 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import vroong.laas.order.core.enums.outbox.OutboxEventStatus;
+import vroong.laas.common.event.KafkaEventType;
+import vroong.laas.common.outbox.OutboxRelayWaker;
 import vroong.laas.order.core.service.domain.order.Destination;
 import vroong.laas.order.core.service.domain.order.Order;
 import vroong.laas.order.data.entity.outbox.OutboxEventEntity;
@@ -17,43 +18,49 @@ public class OutboxEventAppender {
 
   private final OutboxEventPayloadGenerator payloadGenerator;
   private final OutboxEventRepository outboxEventRepository;
+  private final OutboxRelayWaker outboxRelayWaker;
 
   @Transactional
   public void appendOrderCreated(Order order) {
     String payload = payloadGenerator.generateOrderCreatedPayload(order);
 
-    OutboxEventEntity outboxEventEntity = getOutboxEventEntity(order.getId(), payload);
+    OutboxEventEntity outboxEventEntity =
+        getOutboxEventEntity(order.getId(), KafkaEventType.ORDER_ORDER_CREATED, payload);
 
     outboxEventRepository.save(outboxEventEntity);
+    outboxRelayWaker.wakeUpAfterCommit();
   }
 
   @Transactional
   public void appendOrderDestinationChanged(Long orderId, Destination destination) {
     String payload = payloadGenerator.generateOrderDestinationChangedPayload(orderId, destination);
 
-    OutboxEventEntity outboxEventEntity = getOutboxEventEntity(orderId, payload);
+    OutboxEventEntity outboxEventEntity =
+        getOutboxEventEntity(orderId, KafkaEventType.ORDER_ORDER_DESTINATION_CHANGED, payload);
 
     outboxEventRepository.save(outboxEventEntity);
+    outboxRelayWaker.wakeUpAfterCommit();
   }
 
   @Transactional
   public void appendOrderCancelled(Long orderId, Instant cancelledAt) {
     String payload = payloadGenerator.generateOrderCancelledPayload(orderId, cancelledAt);
 
-    OutboxEventEntity outboxEventEntity = getOutboxEventEntity(orderId, payload);
+    OutboxEventEntity outboxEventEntity =
+        getOutboxEventEntity(orderId, KafkaEventType.ORDER_ORDER_CANCELLED, payload);
 
     outboxEventRepository.save(outboxEventEntity);
+    outboxRelayWaker.wakeUpAfterCommit();
   }
 
 
 
-  private OutboxEventEntity getOutboxEventEntity(Long orderId, String payload) {
+  private OutboxEventEntity getOutboxEventEntity(Long orderId, KafkaEventType eventType, String payload) {
     return OutboxEventEntity.builder()
         .eventToken(UUID.randomUUID().toString())
         .entityKey(orderId.toString())
+        .eventType(eventType.getValue())
         .payload(payload)
-        .status(OutboxEventStatus.REGISTERED)
-        .registeredAt(Instant.now())
         .build();
   }
 
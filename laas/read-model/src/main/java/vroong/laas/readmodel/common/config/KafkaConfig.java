@@ -12,6 +12,7 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.listener.ContainerProperties.AckMode;
+import vroong.laas.common.event.serde.KafkaEventDeserializer;
 
 @EnableKafka
 @Configuration
@@ -23,17 +24,25 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${readmodel.consumer.batch.max-poll-records:500}")
+    private int batchMaxPollRecords;
+
     @Bean
     public ConsumerFactory<String, Object> consumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(consumerConfigs());
+    }
+
+    private Map<String, Object> consumerConfigs() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        // JSON/Avro 모두 읽을 수 있도록 content-type 헤더로 형식을 판별
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, KafkaEventDeserializer.class);
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
 
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        return configProps;
     }
 
     @Bean
@@ -41,9 +50,39 @@ public class KafkaConfig {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory =
             new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
-        factory.getContainerProperties().setAckMode(AckMode.MANUAL_IMMEDIATE);
+        configureAsyncAcks(factory);
+        factory.setConcurrency(3);
+
+        return factory;
+    }
+
+    /**
+     * 배치 리스너 (ProjectionBatchEventConsumer)
+     *
+     * poll 한 번의 레코드를 한 번에 전달하고, 배치 처리가 끝나면 한 번에 커밋합니다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory() {
+        Map<String, Object> configProps = consumerConfigs();
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchMaxPollRecords);
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(configProps));
+        factory.setBatchListener(true);
+        configureAsyncAcks(factory);
         factory.setConcurrency(3);
 
         return factory;
     }
-}
\ No newline at end of file
+
+    /**
+     * 리스너가 반환한 CompletableFuture가 완료될 때 offset을 ack 합니다.
+     *
+     * 처리 완료 순서가 offset 순서와 달라도, 앞선 offset이 모두 완료된 지점까지만 커밋합니다.
+     */
+    private static void configureAsyncAcks(ConcurrentKafkaListenerContainerFactory<String, Object> factory) {
+        factory.getContainerProperties().setAckMode(AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+    }
+}
@@ -5,15 +5,22 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.serializer.JacksonJsonRedisSerializer;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import vroong.laas.readmodel.common.repository.redis.BinaryOrderRedisCodec;
+import vroong.laas.readmodel.common.repository.redis.JsonOrderRedisCodec;
+import vroong.laas.readmodel.common.repository.redis.OrderRedisFormat;
+import vroong.laas.readmodel.common.repository.redis.OrderRedisModel;
+import vroong.laas.readmodel.common.repository.redis.OrderRedisSerializer;
 
 import java.time.Duration;
+import java.util.List;
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.PropertyNamingStrategies;
 import tools.jackson.databind.SerializationFeature;
@@ -60,15 +67,24 @@ public class RedisConfig {
             .build();
     }
 
+    /**
+     * OrderRedisModel 전용 템플릿
+     *
+     * readmodel.redis.codec으로 쓰기 형식을 고릅니다 (binary | json). 읽기는 두 형식을 모두 지원합니다.
+     */
     @Bean
-    public ReactiveRedisTemplate<String, Object> reactiveRedisTemplate(
-            ReactiveRedisConnectionFactory connectionFactory) {
+    public ReactiveRedisTemplate<String, OrderRedisModel> reactiveRedisTemplate(
+            ReactiveRedisConnectionFactory connectionFactory,
+            @Value("${readmodel.redis.codec:binary}") String codec) {
 
-        JacksonJsonRedisSerializer<Object> serializer =
-                new JacksonJsonRedisSerializer<>(redisJsonMapper(), Object.class);
+        OrderRedisSerializer serializer = new OrderRedisSerializer(
+                OrderRedisFormat.from(codec),
+                List.of(
+                        new BinaryOrderRedisCodec(),
+                        new JsonOrderRedisCodec(redisJsonMapper())));
         
-        RedisSerializationContext<String, Object> context = RedisSerializationContext
-                .<String, Object>newSerializationContext(new StringRedisSerializer())
+        RedisSerializationContext<String, OrderRedisModel> context = RedisSerializationContext
+                .<String, OrderRedisModel>newSerializationContext(new StringRedisSerializer())
                 .key(new StringRedisSerializer())
                 .value(serializer)
                 .hashKey(new StringRedisSerializer())
@@ -78,6 +94,14 @@ public class RedisConfig {
         return new ReactiveRedisTemplate<>(connectionFactory, context);
     }
 
+    /**
+     * OrderProjection 조건부 저장 스크립트 (저장된 값보다 버전이 클 때만 SET)
+     */
+    @Bean
+    public RedisScript<Long> orderProjectionCasScript() {
+        return RedisScript.of(new ClassPathResource("redis/order-projection-cas.lua"), Long.class);
+    }
+
     @Bean
     public Duration redisTtl() {
         return Duration.ofHours(ttlHours);
@@ -0,0 +1,24 @@
+package vroong.laas.readmodel.common.exception;
+
+/**
+ * 한 번에 조회할 수 있는 Order 수를 넘었을 때 발생하는 예외
+ */
+public class TooManyOrderIdsException extends RuntimeException {
+    
+    private final int requested;
+    private final int max;
+    
+    public TooManyOrderIdsException(int requested, int max) {
+        super("Too many order ids: " + requested + " (max " + max + ")");
+        this.requested = requested;
+        this.max = max;
+    }
+    
+    public int getRequested() {
+        return requested;
+    }
+    
+    public int getMax() {
+        return max;
+    }
+}
@@ -90,6 +90,37 @@ public class OrderAggregate {
      */
     private final Instant updatedAt;
 
+    // ========================================
+    // 버전 (조건부 쓰기)
+    // ========================================
+
+    /**
+     * 저장 버전 (MongoDB에 반영될 때마다 1씩 증가, 아직 저장 전이면 null)
+     * 
+     * 전체 문서 저장은 읽은 버전이 그대로일 때만, Redis 캐시는 더 큰 버전일 때만 씁니다.
+     */
+    private final Long version;
+
+    /**
+     * 단계(OrderProjectionUpdate.Section)별 마지막으로 반영한 이벤트의 발행 시각 (epoch millis)
+     * 
+     * 같은 단계에 이보다 이른 이벤트(순서 역전)는 반영하지 않습니다.
+     */
+    private final Long orderEventAt;
+    private final Long dispatchEventAt;
+    private final Long deliveryStartedEventAt;
+    private final Long deliveryPickedUpEventAt;
+    private final Long deliveryDeliveredEventAt;
+
+    /**
+     * 다음 저장 버전의 projection (저장 직전에 사용)
+     */
+    public OrderAggregate nextVersion() {
+        return toBuilder()
+                .version(version != null ? version + 1 : 1L)
+                .build();
+    }
+
     /**
      * Order 도메인 정보
      * 
@@ -0,0 +1,216 @@
+package vroong.laas.readmodel.common.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * OrderProjection 부분 업데이트
+ * 
+ * 이벤트 하나가 바꾸는 단계(section)의 필드만 담습니다. 저장소는 기존 projection을 읽지 않고 이 필드만 원자적으로 반영합니다.
+ * null인 필드는 바꾸지 않습니다.
+ * 
+ * - orderInfo, dispatchInfo: 하위 정보 전체 교체
+ * - delivery*: deliveryInfo 중 해당 배송 단계가 가진 필드만 변경 (다른 단계가 쓴 필드는 그대로)
+ * 
+ * 순서 보장: section별로 마지막 반영 이벤트 시각을 따로 기록하고, 같은 section에 더 늦은 이벤트가 이미 반영돼 있을 때만
+ * 건너뜁니다 (같은 시각이면 다시 반영하며, 같은 이벤트의 재전달은 같은 값을 다시 쓰는 것이라 결과가 같습니다).
+ * 배송 단계는 section이 나뉘어 있어 순서가 바뀌어 도착해도 각 단계의 시각이 모두 남습니다.
+ * 공유 필드인 deliveryStatus만 단계 순서(STARTED → PICKED_UP → DELIVERED)로 정하며, 더 뒤 단계가 이미 반영돼 있으면 바꾸지 않습니다.
+ */
+@Getter
+@Builder
+public class OrderProjectionUpdate {
+
+    /**
+     * 대상 Order ID (필수)
+     */
+    private final Long orderId;
+
+    /**
+     * 업데이트하는 단계 (필수)
+     */
+    private final Section section;
+
+    /**
+     * 이벤트 발행 시각 (epoch millis, 필수)
+     */
+    private final long eventAt;
+
+    private final OrderAggregate.OrderInfo orderInfo;
+
+    private final Long dispatchId;
+    private final OrderAggregate.DispatchInfo dispatchInfo;
+
+    private final Long deliveryId;
+    private final Long deliveryAgentId;
+    private final Instant deliveryStartedAt;
+    private final Instant deliveryPickedUpAt;
+    private final Instant deliveryDeliveredAt;
+
+    /**
+     * 배송 상태 (더 뒤 배송 단계가 이미 반영된 projection에는 반영하지 않음)
+     */
+    private final String deliveryStatus;
+
+    /**
+     * Projection 최초 생성 시각 (ORDER section, projection이 없을 때만 사용)
+     */
+    private final Instant createdAt;
+
+    /**
+     * Projection 마지막 업데이트 시각 (필수)
+     */
+    private final Instant updatedAt;
+
+    /**
+     * 주문 이벤트로 만든 projection을 ORDER section 업데이트로 변환
+     * 
+     * projection이 이미 있으면 orderInfo만 교체하고 배차/배송 정보는 유지합니다.
+     */
+    public static OrderProjectionUpdate ofOrder(OrderAggregate created, long eventAt) {
+        return OrderProjectionUpdate.builder()
+                .orderId(created.getOrderId())
+                .section(Section.ORDER)
+                .eventAt(eventAt)
+                .orderInfo(created.getOrderInfo())
+                .createdAt(created.getCreatedAt())
+                .updatedAt(created.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 같은 section에 더 늦은 이벤트가 이미 반영된 projection인지 여부
+     */
+    public boolean isStaleFor(OrderAggregate projection) {
+        Long appliedEventAt = section.getEventAt(projection);
+        return appliedEventAt != null && appliedEventAt > eventAt;
+    }
+
+    /**
+     * 더 뒤 배송 단계가 이미 반영돼 deliveryStatus를 바꾸지 않아야 하는지 여부
+     */
+    public boolean isDeliveryStatusSupersededIn(OrderAggregate projection) {
+        return section.getLaterSections().stream()
+                .anyMatch(later -> later.getEventAt(projection) != null);
+    }
+
+    /**
+     * 메모리의 projection에 반영 (배치 처리에서 이벤트를 이어서 반영할 때 사용)
+     * 
+     * 순서 확인은 호출하는 쪽에서 isStaleFor로 합니다. deliveryStatus는 저장소와 같은 규칙으로 여기서 확인합니다.
+     */
+    public OrderAggregate applyTo(OrderAggregate projection) {
+        if (!projection.getOrderId().equals(orderId)) {
+            throw new IllegalArgumentException(
+                    "Order ID mismatch: projection=" + projection.getOrderId() + ", update=" + orderId);
+        }
+
+        OrderAggregate.OrderAggregateBuilder builder = projection.toBuilder()
+                .updatedAt(updatedAt);
+
+        switch (section) {
+            case ORDER -> builder.orderEventAt(eventAt);
+            case DISPATCH -> builder.dispatchEventAt(eventAt);
+            case DELIVERY_STARTED -> builder.deliveryStartedEventAt(eventAt);
+            case DELIVERY_PICKED_UP -> builder.deliveryPickedUpEventAt(eventAt);
+            case DELIVERY_DELIVERED -> builder.deliveryDeliveredEventAt(eventAt);
+        }
+
+        if (orderInfo != null) {
+            builder.orderInfo(orderInfo);
+        }
+        if (dispatchId != null) {
+            builder.dispatchId(dispatchId);
+        }
+        if (dispatchInfo != null) {
+            builder.dispatchInfo(dispatchInfo);
+        }
+        if (deliveryId != null) {
+            builder.deliveryId(deliveryId);
+        }
+
+        if (hasDeliveryFieldUpdates()) {
+            OrderAggregate.DeliveryInfo.DeliveryInfoBuilder deliveryBuilder = projection.getDeliveryInfo() != null
+                    ? projection.getDeliveryInfo().toBuilder()
+                    : OrderAggregate.DeliveryInfo.builder();
+            if (deliveryAgentId != null) {
+                deliveryBuilder.agentId(deliveryAgentId);
+            }
+            if (deliveryStartedAt != null) {
+                deliveryBuilder.deliveryStartedAt(deliveryStartedAt);
+            }
+            if (deliveryPickedUpAt != null) {
+                deliveryBuilder.deliveryPickedUpAt(deliveryPickedUpAt);
+            }
+            if (deliveryDeliveredAt != null) {
+                deliveryBuilder.deliveryDeliveredAt(deliveryDeliveredAt);
+            }
+            if (deliveryStatus != null && !isDeliveryStatusSupersededIn(projection)) {
+                deliveryBuilder.deliveryStatus(deliveryStatus);
+            }
+            builder.deliveryInfo(deliveryBuilder.build());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * deliveryInfo의 일부 필드를 바꾸는지 여부
+     */
+    public boolean hasDeliveryFieldUpdates() {
+        return deliveryAgentId != null || deliveryStartedAt != null || deliveryPickedUpAt != null
+                || deliveryDeliveredAt != null || deliveryStatus != null;
+    }
+
+    /**
+     * 업데이트 단위 (단계별로 마지막 반영 이벤트 시각을 따로 관리)
+     * 
+     * 배송 단계는 선언 순서가 진행 순서입니다 (deliveryStatus 우선순위).
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Section {
+        ORDER("orderEventAt", false),
+        DISPATCH("dispatchEventAt", false),
+        DELIVERY_STARTED("deliveryStartedEventAt", true),
+        DELIVERY_PICKED_UP("deliveryPickedUpEventAt", true),
+        DELIVERY_DELIVERED("deliveryDeliveredEventAt", true);
+
+        /**
+         * 마지막 반영 이벤트 시각을 담는 필드 이름
+         */
+        private final String eventAtField;
+
+        /**
+         * 배송 단계 여부
+         */
+        private final boolean deliveryStage;
+
+        public Long getEventAt(OrderAggregate projection) {
+            return switch (this) {
+                case ORDER -> projection.getOrderEventAt();
+                case DISPATCH -> projection.getDispatchEventAt();
+                case DELIVERY_STARTED -> projection.getDeliveryStartedEventAt();
+                case DELIVERY_PICKED_UP -> projection.getDeliveryPickedUpEventAt();
+                case DELIVERY_DELIVERED -> projection.getDeliveryDeliveredEventAt();
+            };
+        }
+
+        /**
+         * 이 배송 단계보다 뒤의 배송 단계 (배송 단계가 아니면 빈 목록)
+         */
+        public List<Section> getLaterSections() {
+            if (!deliveryStage) {
+                return List.of();
+            }
+            return Arrays.stream(values())
+                    .filter(other -> other.deliveryStage && other.ordinal() > ordinal())
+                    .toList();
+        }
+    }
+}
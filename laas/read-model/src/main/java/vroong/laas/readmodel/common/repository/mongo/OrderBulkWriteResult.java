@@ -0,0 +1,19 @@
+package vroong.laas.readmodel.common.repository.mongo;
+
+import vroong.laas.readmodel.common.model.OrderAggregate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OrderProjection 일괄 저장 결과 (항목별)
+ *
+ * @param saved 저장된 projection
+ * @param failures 저장하지 못한 주문 (orderId → 에러 메시지)
+ */
+public record OrderBulkWriteResult(List<OrderAggregate> saved, Map<Long, String> failures) {
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
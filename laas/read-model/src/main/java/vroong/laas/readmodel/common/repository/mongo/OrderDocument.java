@@ -46,6 +46,14 @@ public class OrderDocument {
     @Indexed
     private final Instant updatedAt;
     
+    // 조건부 쓰기: 저장 버전, 단계별 마지막 반영 이벤트 시각 (epoch millis)
+    private final Long version;
+    private final Long orderEventAt;
+    private final Long dispatchEventAt;
+    private final Long deliveryStartedEventAt;
+    private final Long deliveryPickedUpEventAt;
+    private final Long deliveryDeliveredEventAt;
+    
     // ========================================
     // Nested Document Classes
     // ========================================
@@ -134,10 +142,16 @@ public class OrderDocument {
                 .deliveryInfo(aggregate.getDeliveryInfo() != null ? convertDeliveryInfo(aggregate.getDeliveryInfo()) : null)
                 .createdAt(aggregate.getCreatedAt())
                 .updatedAt(aggregate.getUpdatedAt())
+                .version(aggregate.getVersion())
+                .orderEventAt(aggregate.getOrderEventAt())
+                .dispatchEventAt(aggregate.getDispatchEventAt())
+                .deliveryStartedEventAt(aggregate.getDeliveryStartedEventAt())
+                .deliveryPickedUpEventAt(aggregate.getDeliveryPickedUpEventAt())
+                .deliveryDeliveredEventAt(aggregate.getDeliveryDeliveredEventAt())
                 .build();
     }
     
-    private static OrderInfoDocument convertOrderInfo(OrderAggregate.OrderInfo orderInfo) {
+    static OrderInfoDocument convertOrderInfo(OrderAggregate.OrderInfo orderInfo) {
         return OrderInfoDocument.builder()
                 .orderNumber(orderInfo.getOrderNumber())
                 .orderStatus(orderInfo.getOrderStatus())
@@ -153,7 +167,7 @@ public class OrderDocument {
                 .build();
     }
     
-    private static DispatchInfoDocument convertDispatchInfo(OrderAggregate.DispatchInfo dispatchInfo) {
+    static DispatchInfoDocument convertDispatchInfo(OrderAggregate.DispatchInfo dispatchInfo) {
         return DispatchInfoDocument.builder()
                 .agentId(dispatchInfo.getAgentId())
                 .suggestedFee(dispatchInfo.getSuggestedFee())
@@ -161,7 +175,7 @@ public class OrderDocument {
                 .build();
     }
     
-    private static DeliveryInfoDocument convertDeliveryInfo(OrderAggregate.DeliveryInfo deliveryInfo) {
+    static DeliveryInfoDocument convertDeliveryInfo(OrderAggregate.DeliveryInfo deliveryInfo) {
         return DeliveryInfoDocument.builder()
                 .deliveryNumber(deliveryInfo.getDeliveryNumber())
                 .agentId(deliveryInfo.getAgentId())
@@ -207,6 +221,12 @@ public class OrderDocument {
                 .deliveryInfo(this.deliveryInfo != null ? convertToDeliveryInfo(this.deliveryInfo) : null)
                 .createdAt(this.createdAt)
                 .updatedAt(this.updatedAt)
+                .version(this.version)
+                .orderEventAt(this.orderEventAt)
+                .dispatchEventAt(this.dispatchEventAt)
+                .deliveryStartedEventAt(this.deliveryStartedEventAt)
+                .deliveryPickedUpEventAt(this.deliveryPickedUpEventAt)
+                .deliveryDeliveredEventAt(this.deliveryDeliveredEventAt)
                 .build();
     }
     
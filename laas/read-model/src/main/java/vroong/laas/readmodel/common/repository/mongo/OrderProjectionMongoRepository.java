@@ -1,13 +1,33 @@
 package vroong.laas.readmodel.common.repository.mongo;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 import vroong.laas.readmodel.common.model.OrderAggregate;
+import vroong.laas.readmodel.common.model.OrderProjectionUpdate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Reactive MongoDB Repository for Order Projection
@@ -17,22 +37,208 @@ import vroong.laas.readmodel.common.model.OrderAggregate;
 @RequiredArgsConstructor
 public class OrderProjectionMongoRepository {
 
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
     private final ReactiveMongoTemplate reactiveMongoTemplate;
 
     /**
      * MongoDB에 OrderProjection 저장 (Reactive)
+     *
+     * projection의 version은 이번에 저장할 버전({@link OrderAggregate#nextVersion()})이어야 합니다.
+     * 저장된 문서의 버전이 바로 앞 버전일 때만 교체하고(처음 저장이면 문서가 없거나 버전이 없을 때),
+     * 그 사이 다른 쓰기가 있었으면 {@link OptimisticLockingFailureException}으로 실패합니다.
      */
     public Mono<OrderAggregate> save(OrderAggregate projection) {
-        OrderDocument document = OrderDocument.from(projection);
-        
-        return reactiveMongoTemplate.save(document)
-                .doOnSuccess(saved -> log.debug("Saved order projection to MongoDB: orderId={}, id={}", 
-                        projection.getOrderId(), saved.getId()))
+        ReplaceOneModel<Document> request = toReplaceModel(projection);
+
+        return reactiveMongoTemplate.getCollection(reactiveMongoTemplate.getCollectionName(OrderDocument.class))
+                .flatMap(collection -> Mono.from(collection.replaceOne(
+                        request.getFilter(), request.getReplacement(), request.getReplaceOptions())))
+                .doOnSuccess(result -> log.debug("Saved order projection to MongoDB: orderId={}, version={}",
+                        projection.getOrderId(), projection.getVersion()))
+                // 버전이 달라 조건에 맞지 않으면 upsert가 같은 _id로 insert를 시도해 중복 키로 실패
+                .onErrorMap(e -> e instanceof MongoWriteException writeException
+                                && writeException.getError().getCode() == DUPLICATE_KEY_ERROR_CODE,
+                        e -> new OptimisticLockingFailureException(
+                                "Order projection version conflict: orderId=" + projection.getOrderId()
+                                        + ", version=" + projection.getVersion(), e))
                 .doOnError(e -> log.error("Failed to save order projection to MongoDB: orderId={}, error={}", 
                         projection.getOrderId(), e.getMessage()))
                 .thenReturn(projection);
     }
 
+    /**
+     * MongoDB에 OrderProjection 부분 업데이트 (Reactive)
+     *
+     * 문서를 읽지 않고 바뀌는 필드만 $set 하고 version을 1 올립니다 (findAndModify, 문서 단위로 원자적).
+     * - section의 마지막 반영 이벤트 시각이 update.eventAt보다 늦지 않은 문서에만 반영 (순서 역전 무시)
+     * - deliveryStatus는 더 뒤 배송 단계가 반영되지 않은 문서에만 반영. 조건에 맞지 않으면 상태를 빼고 한 번 더 반영
+     * - ORDER section은 문서가 없으면 새로 만듦 (upsert)
+     *
+     * upsert가 중복 키로 실패하면(다른 쓰기가 먼저 문서를 만들었거나, 더 늦은 주문 이벤트가 반영된 문서가 있음)
+     * 문서가 있으므로 upsert 없이 한 번 더 반영합니다. 그 밖의 실패는 전파합니다.
+     *
+     * @return 반영된 뒤의 projection (대상 문서가 없거나 section에 더 늦은 이벤트가 반영돼 있으면 empty)
+     */
+    public Mono<OrderAggregate> update(OrderProjectionUpdate update) {
+        if (update.getDeliveryStatus() == null || update.getSection().getLaterSections().isEmpty()) {
+            return findAndModify(update, criteriaFor(update), updateFor(update, true));
+        }
+
+        Criteria statusCriteria = criteriaFor(update);
+        for (OrderProjectionUpdate.Section later : update.getSection().getLaterSections()) {
+            statusCriteria = statusCriteria.and(later.getEventAtField()).is(null);
+        }
+
+        return findAndModify(update, statusCriteria, updateFor(update, true))
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.debug("Later delivery stage already applied, keeping delivery status: orderId={}, section={}",
+                            update.getOrderId(), update.getSection());
+                    return findAndModify(update, criteriaFor(update), updateFor(update, false));
+                }));
+    }
+
+    private Mono<OrderAggregate> findAndModify(OrderProjectionUpdate update, Criteria criteria, Update mongoUpdate) {
+        boolean upsert = update.getSection() == OrderProjectionUpdate.Section.ORDER;
+        if (upsert) {
+            mongoUpdate.setOnInsert("_id", OrderDocument.generateId(update.getOrderId()))
+                    .setOnInsert("createdAt", update.getCreatedAt());
+        }
+        Query query = new Query(criteria);
+
+        return reactiveMongoTemplate.findAndModify(query, mongoUpdate,
+                        FindAndModifyOptions.options().returnNew(true).upsert(upsert), OrderDocument.class)
+                .onErrorResume(DuplicateKeyException.class, e -> {
+                    log.debug("Order projection upsert conflicted, retrying as update: orderId={}, error={}",
+                            update.getOrderId(), e.getMessage());
+                    return reactiveMongoTemplate.findAndModify(query, mongoUpdate,
+                            FindAndModifyOptions.options().returnNew(true), OrderDocument.class);
+                })
+                .map(OrderDocument::toAggregate)
+                .doOnNext(updated -> log.debug("Updated order projection in MongoDB: orderId={}, version={}",
+                        update.getOrderId(), updated.getVersion()))
+                .doOnError(e -> log.error("Failed to update order projection in MongoDB: orderId={}, error={}",
+                        update.getOrderId(), e.getMessage()));
+    }
+
+    /**
+     * 반영 조건 (orderId + section에 더 늦은 이벤트가 반영되지 않은 문서)
+     *
+     * Criteria.and는 같은 체인에 조건을 더하므로 조건을 바꿔 쓸 때마다 새로 만듭니다.
+     */
+    private static Criteria criteriaFor(OrderProjectionUpdate update) {
+        String eventAtField = update.getSection().getEventAtField();
+        return Criteria.where("orderId").is(update.getOrderId())
+                .orOperator(
+                        Criteria.where(eventAtField).lte(update.getEventAt()),
+                        Criteria.where(eventAtField).is(null));
+    }
+
+    private static Update updateFor(OrderProjectionUpdate update, boolean withDeliveryStatus) {
+        Update mongoUpdate = new Update()
+                .set(update.getSection().getEventAtField(), update.getEventAt())
+                .set("updatedAt", update.getUpdatedAt())
+                .inc("version", 1);
+        if (update.getOrderInfo() != null) {
+            mongoUpdate.set("orderInfo", OrderDocument.convertOrderInfo(update.getOrderInfo()));
+        }
+        if (update.getDispatchId() != null) {
+            mongoUpdate.set("dispatchId", update.getDispatchId());
+        }
+        if (update.getDispatchInfo() != null) {
+            mongoUpdate.set("dispatchInfo", OrderDocument.convertDispatchInfo(update.getDispatchInfo()));
+        }
+        if (update.getDeliveryId() != null) {
+            mongoUpdate.set("deliveryId", update.getDeliveryId());
+        }
+        if (update.getDeliveryAgentId() != null) {
+            mongoUpdate.set("deliveryInfo.agentId", update.getDeliveryAgentId());
+        }
+        if (update.getDeliveryStartedAt() != null) {
+            mongoUpdate.set("deliveryInfo.deliveryStartedAt", update.getDeliveryStartedAt());
+        }
+        if (update.getDeliveryPickedUpAt() != null) {
+            mongoUpdate.set("deliveryInfo.deliveryPickedUpAt", update.getDeliveryPickedUpAt());
+        }
+        if (update.getDeliveryDeliveredAt() != null) {
+            mongoUpdate.set("deliveryInfo.deliveryDeliveredAt", update.getDeliveryDeliveredAt());
+        }
+        if (withDeliveryStatus && update.getDeliveryStatus() != null) {
+            mongoUpdate.set("deliveryInfo.deliveryStatus", update.getDeliveryStatus());
+        }
+        return mongoUpdate;
+    }
+
+    /**
+     * MongoDB에 OrderProjection 일괄 저장 (Reactive)
+     *
+     * orderId를 키로 한 upsert를 unordered bulkWrite 한 번으로 보냅니다. 한 항목이 실패해도 나머지는 저장되며,
+     * 항목별 실패는 결과의 failures로 돌려줍니다. 같은 orderId가 여러 번 있으면 마지막 값만 저장합니다.
+     * 버전 조건은 {@link #save(OrderAggregate)}와 같으며, 그 사이 다른 쓰기가 있었던 주문은 failures에 담깁니다.
+     * 연결 오류처럼 bulkWrite 자체가 실패하면 에러를 전파합니다.
+     */
+    public Mono<OrderBulkWriteResult> saveAll(Collection<OrderAggregate> projections) {
+        if (projections.isEmpty()) {
+            return Mono.just(new OrderBulkWriteResult(List.of(), Map.of()));
+        }
+
+        // unordered bulkWrite는 항목 순서를 보장하지 않으므로 같은 주문은 마지막 값 하나만 보냄
+        Map<Long, OrderAggregate> latestByOrderId = new LinkedHashMap<>();
+        projections.forEach(projection -> latestByOrderId.put(projection.getOrderId(), projection));
+        List<OrderAggregate> targets = new ArrayList<>(latestByOrderId.values());
+
+        List<ReplaceOneModel<Document>> requests = targets.stream()
+                .map(this::toReplaceModel)
+                .toList();
+
+        return reactiveMongoTemplate.getCollection(reactiveMongoTemplate.getCollectionName(OrderDocument.class))
+                .flatMap(collection -> Mono.from(collection.bulkWrite(requests, new BulkWriteOptions().ordered(false))))
+                .map(result -> new OrderBulkWriteResult(targets, Map.of()))
+                .onErrorResume(MongoBulkWriteException.class, e -> Mono.just(toResult(targets, e)))
+                .doOnSuccess(result -> log.debug("Bulk saved order projections to MongoDB: saved={}, failed={}",
+                        result.saved().size(), result.failures().size()))
+                .doOnError(e -> log.error("Failed to bulk save order projections to MongoDB: count={}, error={}",
+                        targets.size(), e.getMessage()));
+    }
+
+    private static OrderBulkWriteResult toResult(List<OrderAggregate> targets, MongoBulkWriteException e) {
+        // 에러의 index는 요청 목록의 위치
+        Map<Long, String> failures = new HashMap<>();
+        for (BulkWriteError error : e.getWriteErrors()) {
+            String reason = error.getCode() == DUPLICATE_KEY_ERROR_CODE
+                    ? "version conflict: " + error.getMessage()
+                    : error.getMessage();
+            failures.put(targets.get(error.getIndex()).getOrderId(), reason);
+        }
+
+        List<OrderAggregate> saved = targets.stream()
+                .filter(projection -> !failures.containsKey(projection.getOrderId()))
+                .toList();
+        return new OrderBulkWriteResult(saved, failures);
+    }
+
+    /**
+     * 버전 조건부 upsert 요청 (filter: orderId + 바로 앞 버전)
+     */
+    private ReplaceOneModel<Document> toReplaceModel(OrderAggregate projection) {
+        Document document = new Document();
+        reactiveMongoTemplate.getConverter().write(OrderDocument.from(projection), document);
+        return new ReplaceOneModel<>(
+                Filters.and(
+                        Filters.eq("orderId", projection.getOrderId()),
+                        Filters.eq("version", expectedVersion(projection))),
+                document,
+                new ReplaceOptions().upsert(true));
+    }
+
+    /**
+     * 저장할 projection 바로 앞의 버전 (처음 저장이면 null: 문서가 없거나 version 필드가 없는 문서)
+     */
+    private static Long expectedVersion(OrderAggregate projection) {
+        Long version = projection.getVersion();
+        return version != null && version > 1 ? version - 1 : null;
+    }
+
     /**
      * MongoDB에서 OrderProjection 조회 (Reactive)
      */
@@ -47,6 +253,30 @@ public class OrderProjectionMongoRepository {
                 .onErrorResume(e -> Mono.empty());
     }
 
+    /**
+     * MongoDB에서 여러 OrderProjection 조회 (orderId $in 쿼리 한 번)
+     *
+     * <p>조회 실패는 빈 Map으로 바꾸지 않고 그대로 전달합니다. 컨슈머 경로에서 "없음"으로 취급되면
+     * 이벤트가 건너뛰어진 채 커밋되므로, 실패를 무시할지는 호출하는 쪽(조회 API)이 정합니다.
+     *
+     * @return orderId → projection (없는 주문은 포함하지 않음)
+     */
+    public Mono<Map<Long, OrderAggregate>> findAllByOrderIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        Query query = new Query(Criteria.where("orderId").in(orderIds));
+
+        return reactiveMongoTemplate.find(query, OrderDocument.class)
+                .map(OrderDocument::toAggregate)
+                .collectMap(OrderAggregate::getOrderId)
+                .doOnNext(projections -> log.debug("Found order projections in MongoDB: requested={}, found={}",
+                        orderIds.size(), projections.size()))
+                .doOnError(e -> log.error("Failed to find order projections in MongoDB: count={}, error={}",
+                        orderIds.size(), e.getMessage()));
+    }
+
     /**
      * MongoDB에서 OrderProjection 삭제 (Reactive)
      */
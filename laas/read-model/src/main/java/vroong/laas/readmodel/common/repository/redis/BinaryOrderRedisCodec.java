@@ -0,0 +1,302 @@
+package vroong.laas.readmodel.common.repository.redis;
+
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import vroong.laas.readmodel.common.repository.redis.OrderRedisModel.DeliveryInfoRedis;
+import vroong.laas.readmodel.common.repository.redis.OrderRedisModel.DispatchInfoRedis;
+import vroong.laas.readmodel.common.repository.redis.OrderRedisModel.OrderInfoRedis;
+import vroong.laas.readmodel.common.repository.redis.OrderRedisModel.OrderItemRedis;
+import vroong.laas.readmodel.common.repository.redis.OrderRedisModel.OrderLocationRedis;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 필드 순서 고정 바이너리 형식
+ *
+ * 필드 이름 없이 값만 정해진 순서로 씁니다. 정수는 Avro binary 인코딩(zig-zag varint)을 사용합니다.
+ * - nullable 값: 존재 여부 1바이트 + 값
+ * - String: 길이(varint) + UTF-8
+ * - BigDecimal: unscaled 값(길이 + two's complement) + scale(varint)
+ * - Instant: epoch second(varint) + nano(varint)
+ * - List: 개수(varint) + 원소
+ *
+ * 순서 (BINARY, 0x03): marker, version(8바이트 big-endian, 없으면 0), orderId, dispatchId, deliveryId,
+ * orderInfo, dispatchInfo, deliveryInfo, createdAt, updatedAt, orderEventAt, dispatchEventAt,
+ * deliveryStartedEventAt, deliveryPickedUpEventAt, deliveryDeliveredEventAt (nested 클래스는 선언 순서)
+ *
+ * version은 Redis Lua 스크립트가 값을 디코딩하지 않고 비교할 수 있도록 가변 길이가 아닌 고정 위치(offset 1)에 둡니다.
+ *
+ * 필드를 추가/삭제하면 기존 키를 읽을 수 없으므로 새 marker로 형식을 바꿉니다.
+ */
+public class BinaryOrderRedisCodec implements OrderRedisCodec {
+
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    private static final int VERSION_SIZE = Long.BYTES;
+
+    @Override
+    public OrderRedisFormat getFormat() {
+        return OrderRedisFormat.BINARY;
+    }
+
+    @Override
+    public byte[] encode(OrderRedisModel model) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        out.write(OrderRedisFormat.BINARY.getMarker());
+        out.writeBytes(ByteBuffer.allocate(VERSION_SIZE)
+                .putLong(model.getVersion() != null ? model.getVersion() : 0L)
+                .array());
+        BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+
+        try {
+            writeLong(encoder, model.getOrderId());
+            writeLong(encoder, model.getDispatchId());
+            writeLong(encoder, model.getDeliveryId());
+            writeOrderInfo(encoder, model.getOrderInfo());
+            writeDispatchInfo(encoder, model.getDispatchInfo());
+            writeDeliveryInfo(encoder, model.getDeliveryInfo());
+            writeInstant(encoder, model.getCreatedAt());
+            writeInstant(encoder, model.getUpdatedAt());
+            writeLong(encoder, model.getOrderEventAt());
+            writeLong(encoder, model.getDispatchEventAt());
+            writeLong(encoder, model.getDeliveryStartedEventAt());
+            writeLong(encoder, model.getDeliveryPickedUpEventAt());
+            writeLong(encoder, model.getDeliveryDeliveredEventAt());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public OrderRedisModel decode(byte[] data) {
+        long version = ByteBuffer.wrap(data, 1, VERSION_SIZE).getLong();
+        int offset = 1 + VERSION_SIZE;
+        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(data, offset, data.length - offset, null);
+
+        try {
+            return OrderRedisModel.builder()
+                    .version(version != 0L ? version : null)
+                    .orderId(readLong(decoder))
+                    .dispatchId(readLong(decoder))
+                    .deliveryId(readLong(decoder))
+                    .orderInfo(readOrderInfo(decoder))
+                    .dispatchInfo(readDispatchInfo(decoder))
+                    .deliveryInfo(readDeliveryInfo(decoder))
+                    .createdAt(readInstant(decoder))
+                    .updatedAt(readInstant(decoder))
+                    .orderEventAt(readLong(decoder))
+                    .dispatchEventAt(readLong(decoder))
+                    .deliveryStartedEventAt(readLong(decoder))
+                    .deliveryPickedUpEventAt(readLong(decoder))
+                    .deliveryDeliveredEventAt(readLong(decoder))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ========================================
+    // Nested
+    // ========================================
+
+    private static void writeOrderInfo(BinaryEncoder encoder, OrderInfoRedis orderInfo) throws IOException {
+        if (!writePresence(encoder, orderInfo)) {
+            return;
+        }
+        writeString(encoder, orderInfo.getOrderNumber());
+        writeString(encoder, orderInfo.getOrderStatus());
+        writeLocation(encoder, orderInfo.getOriginLocation());
+        writeLocation(encoder, orderInfo.getDestinationLocation());
+        if (writePresence(encoder, orderInfo.getItems())) {
+            encoder.writeInt(orderInfo.getItems().size());
+            for (OrderItemRedis item : orderInfo.getItems()) {
+                writeString(encoder, item.getItemName());
+                writeInt(encoder, item.getQuantity());
+                writeDecimal(encoder, item.getPrice());
+            }
+        }
+        writeInstant(encoder, orderInfo.getOrderedAt());
+    }
+
+    private static OrderInfoRedis readOrderInfo(BinaryDecoder decoder) throws IOException {
+        if (!decoder.readBoolean()) {
+            return null;
+        }
+
+        OrderInfoRedis.OrderInfoRedisBuilder builder = OrderInfoRedis.builder()
+                .orderNumber(readString(decoder))
+                .orderStatus(readString(decoder))
+                .originLocation(readLocation(decoder))
+                .destinationLocation(readLocation(decoder));
+
+        if (decoder.readBoolean()) {
+            int size = decoder.readInt();
+            List<OrderItemRedis> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add(OrderItemRedis.builder()
+                        .itemName(readString(decoder))
+                        .quantity(readInt(decoder))
+                        .price(readDecimal(decoder))
+                        .build());
+            }
+            builder.items(items);
+        }
+
+        return builder
+                .orderedAt(readInstant(decoder))
+                .build();
+    }
+
+    private static void writeDispatchInfo(BinaryEncoder encoder, DispatchInfoRedis dispatchInfo) throws IOException {
+        if (!writePresence(encoder, dispatchInfo)) {
+            return;
+        }
+        writeLong(encoder, dispatchInfo.getAgentId());
+        writeDecimal(encoder, dispatchInfo.getSuggestedFee());
+        writeInstant(encoder, dispatchInfo.getDispatchedAt());
+    }
+
+    private static DispatchInfoRedis readDispatchInfo(BinaryDecoder decoder) throws IOException {
+        if (!decoder.readBoolean()) {
+            return null;
+        }
+        return DispatchInfoRedis.builder()
+                .agentId(readLong(decoder))
+                .suggestedFee(readDecimal(decoder))
+                .dispatchedAt(readInstant(decoder))
+                .build();
+    }
+
+    private static void writeDeliveryInfo(BinaryEncoder encoder, DeliveryInfoRedis deliveryInfo) throws IOException {
+        if (!writePresence(encoder, deliveryInfo)) {
+            return;
+        }
+        writeString(encoder, deliveryInfo.getDeliveryNumber());
+        writeLong(encoder, deliveryInfo.getAgentId());
+        writeDecimal(encoder, deliveryInfo.getDeliveryFee());
+        writeString(encoder, deliveryInfo.getDeliveryStatus());
+        writeInstant(encoder, deliveryInfo.getDeliveryStartedAt());
+        writeInstant(encoder, deliveryInfo.getDeliveryPickedUpAt());
+        writeInstant(encoder, deliveryInfo.getDeliveryDeliveredAt());
+        writeInstant(encoder, deliveryInfo.getDeliveryCancelledAt());
+    }
+
+    private static DeliveryInfoRedis readDeliveryInfo(BinaryDecoder decoder) throws IOException {
+        if (!decoder.readBoolean()) {
+            return null;
+        }
+        return DeliveryInfoRedis.builder()
+                .deliveryNumber(readString(decoder))
+                .agentId(readLong(decoder))
+                .deliveryFee(readDecimal(decoder))
+                .deliveryStatus(readString(decoder))
+                .deliveryStartedAt(readInstant(decoder))
+                .deliveryPickedUpAt(readInstant(decoder))
+                .deliveryDeliveredAt(readInstant(decoder))
+                .deliveryCancelledAt(readInstant(decoder))
+                .build();
+    }
+
+    private static void writeLocation(BinaryEncoder encoder, OrderLocationRedis location) throws IOException {
+        if (!writePresence(encoder, location)) {
+            return;
+        }
+        writeString(encoder, location.getContactName());
+        writeString(encoder, location.getContactPhoneNumber());
+        writeDecimal(encoder, location.getLatitude());
+        writeDecimal(encoder, location.getLongitude());
+        writeString(encoder, location.getJibunAddress());
+        writeString(encoder, location.getRoadAddress());
+        writeString(encoder, location.getDetailAddress());
+    }
+
+    private static OrderLocationRedis readLocation(BinaryDecoder decoder) throws IOException {
+        if (!decoder.readBoolean()) {
+            return null;
+        }
+        return OrderLocationRedis.builder()
+                .contactName(readString(decoder))
+                .contactPhoneNumber(readString(decoder))
+                .latitude(readDecimal(decoder))
+                .longitude(readDecimal(decoder))
+                .jibunAddress(readString(decoder))
+                .roadAddress(readString(decoder))
+                .detailAddress(readString(decoder))
+                .build();
+    }
+
+    // ========================================
+    // Nullable values
+    // ========================================
+
+    private static boolean writePresence(BinaryEncoder encoder, Object value) throws IOException {
+        encoder.writeBoolean(value != null);
+        return value != null;
+    }
+
+    private static void writeLong(BinaryEncoder encoder, Long value) throws IOException {
+        if (writePresence(encoder, value)) {
+            encoder.writeLong(value);
+        }
+    }
+
+    private static Long readLong(BinaryDecoder decoder) throws IOException {
+        return decoder.readBoolean() ? decoder.readLong() : null;
+    }
+
+    private static void writeInt(BinaryEncoder encoder, Integer value) throws IOException {
+        if (writePresence(encoder, value)) {
+            encoder.writeInt(value);
+        }
+    }
+
+    private static Integer readInt(BinaryDecoder decoder) throws IOException {
+        return decoder.readBoolean() ? decoder.readInt() : null;
+    }
+
+    private static void writeString(BinaryEncoder encoder, String value) throws IOException {
+        if (writePresence(encoder, value)) {
+            encoder.writeString(value);
+        }
+    }
+
+    private static String readString(BinaryDecoder decoder) throws IOException {
+        return decoder.readBoolean() ? decoder.readString() : null;
+    }
+
+    private static void writeDecimal(BinaryEncoder encoder, BigDecimal value) throws IOException {
+        if (writePresence(encoder, value)) {
+            encoder.writeBytes(value.unscaledValue().toByteArray());
+            encoder.writeInt(value.scale());
+        }
+    }
+
+    private static BigDecimal readDecimal(BinaryDecoder decoder) throws IOException {
+        if (!decoder.readBoolean()) {
+            return null;
+        }
+        BigInteger unscaled = new BigInteger(decoder.readBytes(null).array());
+        return new BigDecimal(unscaled, decoder.readInt());
+    }
+
+    private static void writeInstant(BinaryEncoder encoder, Instant value) throws IOException {
+        if (writePresence(encoder, value)) {
+            encoder.writeLong(value.getEpochSecond());
+            encoder.writeInt(value.getNano());
+        }
+    }
+
+    private static Instant readInstant(BinaryDecoder decoder) throws IOException {
+        return decoder.readBoolean() ? Instant.ofEpochSecond(decoder.readLong(), decoder.readInt()) : null;
+    }
+}
@@ -0,0 +1,30 @@
+package vroong.laas.readmodel.common.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * snake_case JSON 형식 (기존 형식)
+ *
+ * 필드 이름이 값마다 반복되므로 크기가 큽니다. 기존 키를 읽거나, 디버깅을 위해 사람이 읽을 수 있는 값이 필요할 때 사용합니다.
+ */
+@RequiredArgsConstructor
+public class JsonOrderRedisCodec implements OrderRedisCodec {
+
+    private final JsonMapper redisJsonMapper;
+
+    @Override
+    public OrderRedisFormat getFormat() {
+        return OrderRedisFormat.JSON;
+    }
+
+    @Override
+    public byte[] encode(OrderRedisModel model) {
+        return redisJsonMapper.writeValueAsBytes(model);
+    }
+
+    @Override
+    public OrderRedisModel decode(byte[] data) {
+        return redisJsonMapper.readValue(data, OrderRedisModel.class);
+    }
+}
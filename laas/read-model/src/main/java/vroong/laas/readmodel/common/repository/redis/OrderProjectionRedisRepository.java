@@ -3,39 +3,112 @@ package vroong.laas.readmodel.common.repository.redis;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisElementReader;
+import org.springframework.data.redis.serializer.RedisElementWriter;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import vroong.laas.readmodel.common.model.OrderAggregate;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Reactive Redis Repository for Order Projection
+ *
+ * 여러 주문을 다루는 메서드(saveAll, findAllByOrderIds, deleteAllByOrderIds)는 키 수와 관계없이
+ * 응답을 한 번만 기다립니다. Lettuce는 하나의 연결을 공유하므로 응답을 기다리지 않고 보낸 명령은 파이프라인으로 전송됩니다.
+ *
+ * 저장은 Lua 스크립트로 저장된 값의 버전과 비교해 더 큰 버전일 때만 씁니다 (compare-and-set).
+ * 순서가 뒤바뀐 쓰기나 오래된 MongoDB 조회 결과의 캐싱이 새 값을 덮어쓰지 않으므로, 주문별 잠금이 필요 없습니다.
  */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class OrderProjectionRedisRepository {
 
-    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    /**
+     * 스크립트 인자는 미리 인코딩한 바이트를 그대로 전달
+     */
+    private static final RedisElementWriter<ByteBuffer> ARG_WRITER = buffer -> buffer;
+    private static final RedisElementReader<Long> RESULT_READER =
+            buffer -> Long.valueOf(StandardCharsets.UTF_8.decode(buffer).toString());
+
+    private final ReactiveRedisTemplate<String, OrderRedisModel> reactiveRedisTemplate;
     private final Duration redisTtl;
+    private final RedisScript<Long> orderProjectionCasScript;
 
     /**
      * Redis에 OrderProjection 저장 (Reactive)
+     *
+     * 같거나 더 큰 버전이 이미 저장돼 있으면 쓰지 않습니다.
      */
     public Mono<OrderAggregate> save(OrderAggregate projection) {
         String key = OrderRedisModel.generateKey(projection.getOrderId());
-        OrderRedisModel redisModel = OrderRedisModel.from(projection);
-        
-        return reactiveRedisTemplate.opsForValue()
-                .set(key, redisModel, redisTtl)
-                .doOnSuccess(success -> log.debug("Saved order projection to Redis: orderId={}, key={}", 
-                        projection.getOrderId(), key))
+
+        return compareAndSet(projection)
+                .doOnSuccess(stored -> log.debug("Saved order projection to Redis: orderId={}, key={}, version={}, stored={}",
+                        projection.getOrderId(), key, projection.getVersion(), stored))
                 .doOnError(e -> log.error("Failed to save order projection to Redis: orderId={}, error={}", 
                         projection.getOrderId(), e.getMessage()))
                 .thenReturn(projection);
     }
 
+    /**
+     * Redis에 여러 OrderProjection 저장 (조건부 SET 스크립트, 파이프라인)
+     *
+     * 명령을 응답을 기다리지 않고 이어서 보내므로 키가 많아도 왕복 한 번의 지연으로 끝납니다.
+     * 키별로 실패할 수 있으므로 처리된 orderId만 돌려줍니다.
+     *
+     * @return 저장했거나 같거나 더 큰 버전이 이미 있는 orderId (Redis에 오래된 값이 남지 않은 주문)
+     */
+    public Mono<Set<Long>> saveAll(Collection<OrderAggregate> projections) {
+        return Flux.fromIterable(projections)
+                .flatMap(projection -> compareAndSet(projection)
+                        .map(stored -> projection.getOrderId())
+                        .doOnError(e -> log.error("Failed to save order projection to Redis: orderId={}, error={}",
+                                projection.getOrderId(), e.getMessage()))
+                        .onErrorResume(e -> Mono.empty()), Math.max(projections.size(), 1))
+                .collect(Collectors.toSet())
+                .doOnNext(saved -> log.debug("Saved order projections to Redis: requested={}, saved={}",
+                        projections.size(), saved.size()));
+    }
+
+    /**
+     * 저장된 값보다 버전이 클 때만 SET (스크립트 한 번, 원자적)
+     *
+     * @return 저장 여부 (false: 같거나 더 큰 버전이 이미 있음)
+     */
+    private Mono<Boolean> compareAndSet(OrderAggregate projection) {
+        return Mono.defer(() -> {
+            ByteBuffer value = reactiveRedisTemplate.getSerializationContext()
+                    .getValueSerializationPair()
+                    .write(OrderRedisModel.from(projection));
+            List<ByteBuffer> args = List.of(
+                    value,
+                    toArg(projection.getVersion() != null ? projection.getVersion() : 0L),
+                    toArg(redisTtl.toMillis()));
+
+            return reactiveRedisTemplate.execute(orderProjectionCasScript,
+                            List.of(OrderRedisModel.generateKey(projection.getOrderId())),
+                            args, ARG_WRITER, RESULT_READER)
+                    .next()
+                    .map(result -> result == 1L);
+        });
+    }
+
+    private static ByteBuffer toArg(long value) {
+        return ByteBuffer.wrap(Long.toString(value).getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * Redis에서 OrderProjection 조회 (Reactive)
      */
@@ -44,7 +117,6 @@ public class OrderProjectionRedisRepository {
         
         return reactiveRedisTemplate.opsForValue()
                 .get(key)
-                .cast(OrderRedisModel.class)
                 .map(OrderRedisModel::toAggregate)
                 .doOnNext(projection -> log.debug("Found order projection in Redis: orderId={}", orderId))
                 .doOnError(e -> log.error("Failed to find order projection in Redis: orderId={}, error={}", 
@@ -52,6 +124,39 @@ public class OrderProjectionRedisRepository {
                 .onErrorResume(e -> Mono.empty());
     }
 
+    /**
+     * Redis에서 여러 OrderProjection 조회 (MGET 한 번)
+     *
+     * @return orderId → projection (없는 주문은 포함하지 않음, 조회 실패 시 빈 Map)
+     */
+    public Mono<Map<Long, OrderAggregate>> findAllByOrderIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        List<Long> ids = List.copyOf(orderIds);
+        List<String> keys = ids.stream().map(OrderRedisModel::generateKey).toList();
+
+        return reactiveRedisTemplate.opsForValue()
+                .multiGet(keys)
+                .map(values -> {
+                    // 값은 요청한 키 순서, 없는 키는 null
+                    Map<Long, OrderAggregate> projections = new HashMap<>();
+                    for (int i = 0; i < ids.size(); i++) {
+                        OrderRedisModel value = values.get(i);
+                        if (value != null) {
+                            projections.put(ids.get(i), value.toAggregate());
+                        }
+                    }
+                    return projections;
+                })
+                .doOnNext(projections -> log.debug("Found order projections in Redis: requested={}, found={}",
+                        ids.size(), projections.size()))
+                .doOnError(e -> log.error("Failed to find order projections in Redis: count={}, error={}",
+                        ids.size(), e.getMessage()))
+                .onErrorResume(e -> Mono.just(Map.of()));
+    }
+
     /**
      * Redis에서 OrderProjection 삭제 (Reactive)
      */
@@ -72,6 +177,26 @@ public class OrderProjectionRedisRepository {
                 .onErrorReturn(false);
     }
 
+    /**
+     * Redis에서 여러 OrderProjection 삭제 (DEL 한 번)
+     *
+     * @return 삭제된 키 수 (실패 시 0)
+     */
+    public Mono<Long> deleteAllByOrderIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        String[] keys = orderIds.stream().map(OrderRedisModel::generateKey).toArray(String[]::new);
+
+        return reactiveRedisTemplate.delete(keys)
+                .doOnNext(count -> log.debug("Deleted order projections from Redis: requested={}, deleted={}",
+                        keys.length, count))
+                .doOnError(e -> log.error("Failed to delete order projections from Redis: count={}, error={}",
+                        keys.length, e.getMessage()))
+                .onErrorReturn(0L);
+    }
+
     /**
      * Redis에 OrderProjection 존재 여부 확인 (Reactive)
      */
@@ -0,0 +1,15 @@
+package vroong.laas.readmodel.common.repository.redis;
+
+/**
+ * OrderRedisModel ↔ Redis 값(byte[]) 변환
+ *
+ * 구현체마다 {@link OrderRedisFormat} 하나를 담당하며, 인코딩 결과의 첫 바이트는 형식의 marker입니다.
+ */
+public interface OrderRedisCodec {
+
+    OrderRedisFormat getFormat();
+
+    byte[] encode(OrderRedisModel model);
+
+    OrderRedisModel decode(byte[] data);
+}
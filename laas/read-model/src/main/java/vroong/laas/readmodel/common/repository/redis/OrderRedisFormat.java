@@ -0,0 +1,48 @@
+package vroong.laas.readmodel.common.repository.redis;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis에 저장된 OrderRedisModel 값의 형식
+ *
+ * 값의 첫 바이트로 형식을 구분합니다.
+ * - JSON: 버전 바이트 없이 '{'로 시작 (기존 형식)
+ * - BINARY: 버전 바이트(0x03) + 저장 버전(8바이트 고정) + 필드 순서 고정 바이너리
+ *   (0x01, 0x02는 개발 중 쓰던 형식이 사용했으므로 다시 쓰지 않습니다)
+ *
+ * 읽기는 항상 두 형식을 모두 지원하므로, 쓰기 형식을 바꿔도 기존 키는 TTL 동안 그대로 읽힙니다.
+ * 쓰기 전용 조건(저장 버전 비교)은 Lua 스크립트가 값을 디코딩하지 않고 읽을 수 있도록 형식마다 위치가 정해져 있습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OrderRedisFormat {
+
+    JSON("json", (byte) '{'),
+    BINARY("binary", (byte) 0x03);
+
+    private final String value;
+    private final byte marker;
+
+    public static OrderRedisFormat detect(byte[] data) {
+        if (data == null || data.length == 0) {
+            throw new IllegalArgumentException("Redis value is empty");
+        }
+
+        for (OrderRedisFormat format : values()) {
+            if (format.marker == data[0]) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown Redis value format. marker: " + data[0]);
+    }
+
+    public static OrderRedisFormat from(String value) {
+        for (OrderRedisFormat format : values()) {
+            if (format.value.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown Redis codec: " + value);
+    }
+}
@@ -1,8 +1,11 @@
 package vroong.laas.readmodel.common.repository.redis;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import vroong.laas.readmodel.common.model.OrderAggregate;
 
 import java.math.BigDecimal;
@@ -14,9 +17,12 @@ import java.util.stream.Collectors;
  * Redis Model for Order Projection
  * 
  * 구조: OrderAggregate의 nested 구조를 그대로 반영
+ * 직렬화: {@link OrderRedisCodec} (JSON 역직렬화를 위해 private 기본 생성자 제공)
  */
 @Getter
 @Builder
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class OrderRedisModel {
     
     // Root Level IDs
@@ -38,6 +44,12 @@ public class OrderRedisModel {
     private final Instant createdAt;
     @JsonFormat(shape = JsonFormat.Shape.STRING)
     private final Instant updatedAt;
+    private final Long version;
+    private final Long orderEventAt;
+    private final Long dispatchEventAt;
+    private final Long deliveryStartedEventAt;
+    private final Long deliveryPickedUpEventAt;
+    private final Long deliveryDeliveredEventAt;
     
     // ========================================
     // Nested Redis Classes
@@ -45,6 +57,8 @@ public class OrderRedisModel {
     
     @Getter
     @Builder
+    @NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
     public static class OrderInfoRedis {
         private final String orderNumber;
         private final String orderStatus;
@@ -57,6 +71,8 @@ public class OrderRedisModel {
     
     @Getter
     @Builder
+    @NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
     public static class DispatchInfoRedis {
         private final Long agentId;
         private final BigDecimal suggestedFee;
@@ -66,6 +82,8 @@ public class OrderRedisModel {
     
     @Getter
     @Builder
+    @NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
     public static class DeliveryInfoRedis {
         private final String deliveryNumber;
         private final Long agentId;
@@ -83,6 +101,8 @@ public class OrderRedisModel {
     
     @Getter
     @Builder
+    @NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
     public static class OrderLocationRedis {
         private final String contactName;
         private final String contactPhoneNumber;
@@ -95,6 +115,8 @@ public class OrderRedisModel {
     
     @Getter
     @Builder
+    @NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
     public static class OrderItemRedis {
         private final String itemName;
         private final Integer quantity;
@@ -122,6 +144,12 @@ public class OrderRedisModel {
                 .deliveryInfo(aggregate.getDeliveryInfo() != null ? convertDeliveryInfo(aggregate.getDeliveryInfo()) : null)
                 .createdAt(aggregate.getCreatedAt())
                 .updatedAt(aggregate.getUpdatedAt())
+                .version(aggregate.getVersion())
+                .orderEventAt(aggregate.getOrderEventAt())
+                .dispatchEventAt(aggregate.getDispatchEventAt())
+                .deliveryStartedEventAt(aggregate.getDeliveryStartedEventAt())
+                .deliveryPickedUpEventAt(aggregate.getDeliveryPickedUpEventAt())
+                .deliveryDeliveredEventAt(aggregate.getDeliveryDeliveredEventAt())
                 .build();
     }
     
@@ -195,6 +223,12 @@ public class OrderRedisModel {
                 .deliveryInfo(this.deliveryInfo != null ? convertToDeliveryInfo(this.deliveryInfo) : null)
                 .createdAt(this.createdAt)
                 .updatedAt(this.updatedAt)
+                .version(this.version)
+                .orderEventAt(this.orderEventAt)
+                .dispatchEventAt(this.dispatchEventAt)
+                .deliveryStartedEventAt(this.deliveryStartedEventAt)
+                .deliveryPickedUpEventAt(this.deliveryPickedUpEventAt)
+                .deliveryDeliveredEventAt(this.deliveryDeliveredEventAt)
                 .build();
     }
     
@@ -0,0 +1,58 @@
+package vroong.laas.readmodel.common.repository.redis;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OrderRedisModel 전용 RedisSerializer
+ *
+ * 쓰기는 설정한 codec 하나로, 읽기는 값의 첫 바이트로 형식을 판별해 해당 codec으로 합니다.
+ * 쓰기 형식을 바꾸는 동안(기존 키가 TTL로 만료될 때까지) 두 형식이 섞여 있어도 읽을 수 있습니다.
+ */
+public class OrderRedisSerializer implements RedisSerializer<OrderRedisModel> {
+
+    private final OrderRedisCodec writeCodec;
+    private final Map<OrderRedisFormat, OrderRedisCodec> readCodecs = new EnumMap<>(OrderRedisFormat.class);
+
+    public OrderRedisSerializer(OrderRedisFormat writeFormat, List<OrderRedisCodec> codecs) {
+        codecs.forEach(codec -> readCodecs.put(codec.getFormat(), codec));
+        this.writeCodec = readCodecs.get(writeFormat);
+        if (this.writeCodec == null) {
+            throw new IllegalArgumentException("No codec for Redis format: " + writeFormat);
+        }
+    }
+
+    @Override
+    public byte[] serialize(OrderRedisModel value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return writeCodec.encode(value);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Failed to encode order projection: orderId=" + value.getOrderId(), e);
+        }
+    }
+
+    @Override
+    public OrderRedisModel deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            OrderRedisCodec codec = readCodecs.get(OrderRedisFormat.detect(bytes));
+            if (codec == null) {
+                throw new IllegalArgumentException("No codec for Redis value format");
+            }
+            return codec.decode(bytes);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Failed to decode order projection", e);
+        }
+    }
+}
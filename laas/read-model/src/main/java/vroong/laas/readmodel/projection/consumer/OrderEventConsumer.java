@@ -4,7 +4,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -14,6 +13,8 @@ import vroong.laas.common.event.KafkaEventPayload;
 import vroong.laas.readmodel.projection.event.OrderEvent;
 import vroong.laas.readmodel.projection.service.ProjectionOrchestrator;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -22,54 +23,44 @@ import vroong.laas.readmodel.projection.service.ProjectionOrchestrator;
     havingValue = "true",
     matchIfMissing = true
 )
+@ConditionalOnProperty(
+    name = "readmodel.features.consumer.batch.enabled",
+    havingValue = "false",
+    matchIfMissing = true
+)
 public class OrderEventConsumer {
 
     private final ProjectionOrchestrator projectionOrchestrator;
+    private final OrderKeyedExecutor orderKeyedExecutor;
 
     @KafkaListener(topics = "${readmodel.topics.order}", groupId = "${spring.kafka.consumer.group-id}")
-    public void handleOrderEvent(
-            @Payload String message,
+    public CompletableFuture<Void> handleOrderEvent(
+            @Payload(required = false) KafkaEvent<KafkaEventPayload> message,
             @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            Acknowledgment acknowledgment) {
+            @Header(KafkaHeaders.OFFSET) long offset) {
         
-        KafkaEvent<? extends KafkaEventPayload> kafkaEvent = null;
+        // KafkaEventDeserializer가 JSON/Avro를 판별해 역직렬화 (실패 시 null)
+        KafkaEvent<? extends KafkaEventPayload> kafkaEvent = message;
         
-        try {
-            // JSON 문자열을 KafkaEvent로 역직렬화
-            kafkaEvent = KafkaEvent.fromJson(message);
-            
-            if (kafkaEvent == null) {
-                log.error("Failed to deserialize kafka event: topic={}, partition={}, offset={}", 
-                        topic, partition, offset);
-                acknowledgment.acknowledge();
-                return;
-            }
-            
-            OrderEvent orderEvent = new OrderEvent(kafkaEvent);
-            
-            log.debug("Received order event: eventId={}, orderId={}, eventType={}, topic={}, partition={}, offset={}", 
-                    kafkaEvent.getEventId(), 
-                    orderEvent.getOrderId(),
-                    kafkaEvent.getType(),
+        if (kafkaEvent == null) {
+            log.error("Failed to deserialize kafka event: topic={}, partition={}, offset={}", 
                     topic, partition, offset);
-            
-            // Orchestrator를 통해 처리
-            projectionOrchestrator.handleOrderEvent(orderEvent);
-            
-            
-            acknowledgment.acknowledge();
-            log.debug("Successfully processed order event: eventId={}", kafkaEvent.getEventId());
-            
-        } catch (Exception e) {
-            log.error("Failed to process order event: eventId={}, error={}", 
-                    kafkaEvent != null ? kafkaEvent.getEventId() : "unknown", 
-                    e.getMessage(), e);
-            
-            
-            // TODO: DLQ 또는 재시도 로직 구현
-            acknowledgment.acknowledge(); // 임시로 ack 처리 (무한 재시도 방지)
+            return CompletableFuture.completedFuture(null);
         }
+        
+        OrderEvent orderEvent = new OrderEvent(kafkaEvent);
+        
+        log.debug("Received order event: eventId={}, orderId={}, eventType={}, topic={}, partition={}, offset={}", 
+                kafkaEvent.getEventId(), 
+                orderEvent.getOrderId(),
+                kafkaEvent.getType(),
+                topic, partition, offset);
+        
+        // orderId별 순서를 지키며 비동기로 처리, 반환한 future가 완료되면 offset ack
+        return orderKeyedExecutor.submit(orderEvent.getOrderId(),
+                () -> projectionOrchestrator.handleOrderEvent(orderEvent)
+                        .doOnSuccess(ignored -> log.debug("Successfully processed order event: eventId={}", 
+                                kafkaEvent.getEventId())));
     }
 }
\ No newline at end of file
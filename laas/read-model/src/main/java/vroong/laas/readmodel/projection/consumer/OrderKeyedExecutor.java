@@ -0,0 +1,159 @@
+package vroong.laas.readmodel.projection.consumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * orderId별 순서를 지키며 projection 작업을 비동기로 실행
+ *
+ * 같은 주문의 작업은 앞 작업이 끝난 뒤에 시작하고, 다른 주문의 작업은 동시에 실행합니다.
+ *
+ * 동시에 진행 중인 작업 수가 readmodel.consumer.max-in-flight에 닿으면 리스너 컨테이너를 모두 pause 하고,
+ * resume-in-flight 이하로 줄면 resume 합니다. 리스너 스레드는 막지 않으므로 poll 루프와 heartbeat는 계속 돌고,
+ * pause 전에 이미 poll된 레코드만큼은 한도를 넘을 수 있습니다 (최대 max.poll.records).
+ *
+ * 작업이 실패하면 readmodel.consumer.retry 설정만큼 backoff를 두고 다시 실행합니다. 그래도 실패하면 로그와
+ * readmodel.projection.failed 카운터를 남기고 정상 완료로 처리합니다 (offset은 커밋되어 무한 재시도하지 않음).
+ */
+@Slf4j
+@Component
+public class OrderKeyedExecutor {
+
+    private final int maxInFlight;
+    private final int resumeInFlight;
+    private final int retryMaxAttempts;
+    private final Duration retryBackoff;
+    private final ObjectProvider<KafkaListenerEndpointRegistry> listenerRegistry;
+    private final Counter failedCounter;
+
+    private final Map<Long, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private boolean paused;
+
+    public OrderKeyedExecutor(
+            @Value("${readmodel.consumer.max-in-flight:256}") int maxInFlight,
+            @Value("${readmodel.consumer.resume-in-flight:128}") int resumeInFlight,
+            @Value("${readmodel.consumer.retry.max-attempts:3}") int retryMaxAttempts,
+            @Value("${readmodel.consumer.retry.backoff:200ms}") Duration retryBackoff,
+            ObjectProvider<KafkaListenerEndpointRegistry> listenerRegistry,
+            MeterRegistry meterRegistry) {
+        this.maxInFlight = maxInFlight;
+        this.resumeInFlight = Math.min(resumeInFlight, maxInFlight - 1);
+        this.retryMaxAttempts = retryMaxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.listenerRegistry = listenerRegistry;
+        this.failedCounter = Counter.builder("readmodel.projection.failed")
+                .description("재시도 후에도 실패해 건너뛴 projection 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업을 orderId의 앞 작업 뒤에 이어 실행
+     *
+     * @param orderId 주문 ID (null이면 순서 없이 바로 실행)
+     * @param task 실행할 작업 (구독 시점에 실행되는 Mono)
+     * @return 작업이 끝나면 완료되는 future (예외로 완료되지 않음)
+     */
+    public CompletableFuture<Void> submit(Long orderId, Supplier<Mono<?>> task) {
+        return submitAll(orderId != null ? List.of(orderId) : List.of(), task);
+    }
+
+    /**
+     * 여러 주문에 걸친 작업을 해당 주문들의 앞 작업이 모두 끝난 뒤 실행 (배치 consumer)
+     *
+     * 작업이 끝날 때까지 이 주문들의 다음 작업은 시작하지 않습니다. 주문 수와 관계없이 작업 하나로 봅니다.
+     *
+     * @param orderIds 작업이 다루는 주문 ID (비어 있으면 순서 없이 바로 실행)
+     * @param task 실행할 작업 (구독 시점에 실행되는 Mono)
+     * @return 작업이 끝나면 완료되는 future (예외로 완료되지 않음)
+     */
+    public CompletableFuture<Void> submitAll(Collection<Long> orderIds, Supplier<Mono<?>> task) {
+        if (inFlight.incrementAndGet() >= maxInFlight) {
+            updatePause();
+        }
+
+        CompletableFuture<Void> tail;
+        // 여러 키의 tail을 함께 바꿔야 하므로 짧게 잠금 (작업은 잠금 밖에서 비동기로 진행)
+        synchronized (tails) {
+            CompletableFuture<?>[] previous = orderIds.stream()
+                    .map(tails::get)
+                    .filter(Objects::nonNull)
+                    .toArray(CompletableFuture[]::new);
+
+            tail = previous.length == 0
+                    ? run(orderIds, task)
+                    : CompletableFuture.allOf(previous).thenCompose(ignored -> run(orderIds, task));
+            orderIds.forEach(orderId -> tails.put(orderId, tail));
+        }
+
+        tail.whenComplete((ignored, e) -> {
+            // 뒤에 이어진 작업이 없는 키만 제거
+            orderIds.forEach(orderId -> tails.remove(orderId, tail));
+            release();
+        });
+        return tail;
+    }
+
+    private void release() {
+        if (inFlight.decrementAndGet() <= resumeInFlight) {
+            updatePause();
+        }
+    }
+
+    /**
+     * 진행 중인 작업 수로 pause/resume을 정합니다.
+     * 카운터를 바꾼 뒤 잠금 안에서 다시 읽으므로, 증가와 감소가 겹쳐도 마지막 호출이 현재 상태에 맞게 정리합니다.
+     */
+    private synchronized void updatePause() {
+        int current = inFlight.get();
+        if (!paused && current >= maxInFlight) {
+            paused = true;
+            log.info("Projection tasks reached max-in-flight, pausing listeners: inFlight={}", current);
+            listenerContainers().forEach(MessageListenerContainer::pause);
+        } else if (paused && current <= resumeInFlight) {
+            paused = false;
+            log.info("Projection tasks drained, resuming listeners: inFlight={}", current);
+            listenerContainers().forEach(MessageListenerContainer::resume);
+        }
+    }
+
+    private Collection<MessageListenerContainer> listenerContainers() {
+        KafkaListenerEndpointRegistry registry = listenerRegistry.getIfAvailable();
+        return registry != null ? registry.getListenerContainers() : List.of();
+    }
+
+    private CompletableFuture<Void> run(Collection<Long> orderIds, Supplier<Mono<?>> task) {
+        return Mono.defer(task)
+                .then()
+                .retryWhen(Retry.backoff(retryMaxAttempts, retryBackoff)
+                        .doBeforeRetry(signal -> log.warn("Retrying projection task: orderIds={}, attempt={}, error={}",
+                                orderIds, signal.totalRetries() + 1, signal.failure().getMessage())))
+                .onErrorResume(e -> {
+                    Throwable cause = Exceptions.isRetryExhausted(e) && e.getCause() != null ? e.getCause() : e;
+                    log.error("Failed to process projection task after retries, skipped: orderIds={}, error={}",
+                            orderIds, cause.getMessage(), cause);
+                    failedCounter.increment();
+                    return Mono.empty();
+                })
+                .toFuture();
+    }
+}
@@ -0,0 +1,110 @@
+package vroong.laas.readmodel.projection.consumer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import vroong.laas.common.event.KafkaEvent;
+import vroong.laas.common.event.KafkaEventPayload;
+import vroong.laas.readmodel.projection.event.DeliveryEvent;
+import vroong.laas.readmodel.projection.event.DispatchEvent;
+import vroong.laas.readmodel.projection.event.OrderEvent;
+import vroong.laas.readmodel.projection.service.ProjectionOrchestrator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Order/Dispatch/Delivery 이벤트 배치 consumer
+ *
+ * poll 한 번에 받은 레코드를 orderId로 묶고, 주문마다 이벤트를 메모리에서 순서대로 반영한 뒤 한 번만 저장합니다.
+ * 주문 생성 → 배차 → 배송 시작 이벤트가 한꺼번에 들어오는 경우 저장소 조회/저장이 이벤트 수만큼이 아니라 주문 수만큼 일어납니다.
+ *
+ * 반영 순서: 같은 주문 안에서 order → dispatch → delivery, 같은 도메인 안에서는 poll 순서 (파티션 내 offset 순)
+ *
+ * 반영된 projection은 MongoDB bulkWrite 한 번으로 저장하고, 저장이 끝나면 배치 전체를 ack 합니다.
+ *
+ * readmodel.features.consumer.batch.enabled=true 일 때 단건 consumer 대신 활성화됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    name = "readmodel.features.consumer.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+@ConditionalOnProperty(
+    name = "readmodel.features.consumer.batch.enabled",
+    havingValue = "true"
+)
+public class ProjectionBatchEventConsumer {
+
+    private static final Comparator<KafkaEvent<? extends KafkaEventPayload>> APPLY_ORDER =
+            Comparator.comparingInt(ProjectionBatchEventConsumer::applyRank);
+
+    private final ProjectionOrchestrator projectionOrchestrator;
+    private final OrderKeyedExecutor orderKeyedExecutor;
+
+    @KafkaListener(
+            topics = {"${readmodel.topics.order}", "${readmodel.topics.dispatch}", "${readmodel.topics.delivery}"},
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public CompletableFuture<Void> handleEvents(
+            List<ConsumerRecord<String, KafkaEvent<KafkaEventPayload>>> records) {
+
+        Map<Long, List<KafkaEvent<? extends KafkaEventPayload>>> eventsByOrderId = new LinkedHashMap<>();
+
+        for (ConsumerRecord<String, KafkaEvent<KafkaEventPayload>> record : records) {
+            // KafkaEventDeserializer가 JSON/Avro를 판별해 역직렬화 (실패 시 null)
+            KafkaEvent<KafkaEventPayload> kafkaEvent = record.value();
+            if (kafkaEvent == null) {
+                log.error("Failed to deserialize kafka event: topic={}, partition={}, offset={}",
+                        record.topic(), record.partition(), record.offset());
+                continue;
+            }
+
+            Long orderId = getOrderId(kafkaEvent);
+            if (orderId == null) {
+                log.warn("Order ID not found in event: eventId={}, eventType={}, topic={}, offset={}",
+                        kafkaEvent.getEventId(), kafkaEvent.getType(), record.topic(), record.offset());
+                continue;
+            }
+
+            eventsByOrderId.computeIfAbsent(orderId, id -> new ArrayList<>()).add(kafkaEvent);
+        }
+
+        log.debug("Received event batch: records={}, orders={}", records.size(), eventsByOrderId.size());
+
+        // 안정 정렬이므로 같은 도메인 안에서는 poll 순서 유지
+        eventsByOrderId.values().forEach(kafkaEvents -> kafkaEvents.sort(APPLY_ORDER));
+
+        // 배치 전체를 한 작업으로 처리해 MongoDB에 한 번에 저장, 같은 주문의 앞 배치가 끝난 뒤에 시작
+        // 실패는 OrderKeyedExecutor에서 로그만 남기므로 단건 consumer와 같이 실패해도 ack (무한 재시도 방지)
+        return orderKeyedExecutor.submitAll(eventsByOrderId.keySet(),
+                () -> projectionOrchestrator.handleOrderEvents(eventsByOrderId));
+    }
+
+    private static Long getOrderId(KafkaEvent<KafkaEventPayload> kafkaEvent) {
+        return switch (kafkaEvent.getSource()) {
+            case ORDER -> new OrderEvent(kafkaEvent).getOrderId();
+            case DISPATCH -> new DispatchEvent(kafkaEvent).getOrderId();
+            case DELIVERY -> new DeliveryEvent(kafkaEvent).getOrderId();
+            default -> null;
+        };
+    }
+
+    private static int applyRank(KafkaEvent<? extends KafkaEventPayload> kafkaEvent) {
+        return switch (kafkaEvent.getSource()) {
+            case ORDER -> 0;
+            case DISPATCH -> 1;
+            default -> 2;
+        };
+    }
+}
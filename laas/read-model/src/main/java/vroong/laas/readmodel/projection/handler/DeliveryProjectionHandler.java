@@ -5,7 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import vroong.laas.readmodel.projection.handler.common.DeliveryEventHandler;
 import vroong.laas.readmodel.projection.event.DeliveryEvent;
-import vroong.laas.readmodel.common.model.OrderAggregate;
+import vroong.laas.readmodel.common.model.OrderProjectionUpdate;
 
 import java.util.List;
 
@@ -16,7 +16,10 @@ public class DeliveryProjectionHandler {
 
     private final List<DeliveryEventHandler> deliveryEventHandlers;
 
-    public OrderAggregate updateDeliveryStatus(OrderAggregate existingProjection, DeliveryEvent deliveryEvent) {
+    /**
+     * 이벤트를 부분 업데이트로 변환 (기존 projection 없이 바뀌는 필드만)
+     */
+    public OrderProjectionUpdate updateDeliveryStatus(DeliveryEvent deliveryEvent) {
         log.debug("Finding handler for delivery event type: {}", deliveryEvent.getKafkaEvent().getType());
         
         DeliveryEventHandler handler = deliveryEventHandlers.stream()
@@ -28,6 +31,6 @@ public class DeliveryProjectionHandler {
         log.debug("Using handler: {} for event type: {}", 
                 handler.getClass().getSimpleName(), deliveryEvent.getKafkaEvent().getType());
         
-        return handler.handle(existingProjection, deliveryEvent);
+        return handler.handle(deliveryEvent);
     }
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import vroong.laas.readmodel.projection.handler.common.DispatchEventHandler;
 import vroong.laas.readmodel.projection.event.DispatchEvent;
-import vroong.laas.readmodel.common.model.OrderAggregate;
+import vroong.laas.readmodel.common.model.OrderProjectionUpdate;
 
 import java.util.List;
 
@@ -16,7 +16,10 @@ public class DispatchProjectionHandler {
 
     private final List<DispatchEventHandler> dispatchEventHandlers;
 
-    public OrderAggregate updateDispatchInfo(OrderAggregate existingProjection, DispatchEvent dispatchEvent) {
+    /**
+     * 이벤트를 부분 업데이트로 변환 (기존 projection 없이 바뀌는 필드만)
+     */
+    public OrderProjectionUpdate updateDispatchInfo(DispatchEvent dispatchEvent) {
         log.debug("Finding handler for dispatch event type: {}", dispatchEvent.getKafkaEvent().getType());
         
         DispatchEventHandler handler = dispatchEventHandlers.stream()
@@ -28,6 +31,6 @@ public class DispatchProjectionHandler {
         log.debug("Using handler: {} for event type: {}", 
                 handler.getClass().getSimpleName(), dispatchEvent.getKafkaEvent().getType());
         
-        return handler.handle(existingProjection, dispatchEvent);
+        return handler.handle(dispatchEvent);
     }
 }
\ No newline at end of file
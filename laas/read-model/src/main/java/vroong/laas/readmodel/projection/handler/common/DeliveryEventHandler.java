@@ -2,11 +2,14 @@ package vroong.laas.readmodel.projection.handler.common;
 
 import vroong.laas.common.event.KafkaEventType;
 import vroong.laas.readmodel.projection.event.DeliveryEvent;
-import vroong.laas.readmodel.common.model.OrderAggregate;
+import vroong.laas.readmodel.common.model.OrderProjectionUpdate;
 
 public interface DeliveryEventHandler {
     
     boolean supports(KafkaEventType eventType);
     
-    OrderAggregate handle(OrderAggregate existingProjection, DeliveryEvent deliveryEvent);
+    /**
+     * 이벤트가 바꾸는 필드만 담은 부분 업데이트를 만듭니다 (기존 projection 조회 없음).
+     */
+    OrderProjectionUpdate handle(DeliveryEvent deliveryEvent);
 }
\ No newline at end of file
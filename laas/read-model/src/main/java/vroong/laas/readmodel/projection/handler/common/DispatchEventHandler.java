@@ -2,11 +2,14 @@ package vroong.laas.readmodel.projection.handler.common;
 
 import vroong.laas.common.event.KafkaEventType;
 import vroong.laas.readmodel.projection.event.DispatchEvent;
-import vroong.laas.readmodel.common.model.OrderAggregate;
+import vroong.laas.readmodel.common.model.OrderProjectionUpdate;
 
 public interface DispatchEventHandler {
     
     boolean supports(KafkaEventType eventType);
     
-    OrderAggregate handle(OrderAggregate existingProjection, DispatchEvent dispatchEvent);
+    /**
+     * 이벤트가 바꾸는 필드만 담은 부분 업데이트를 만듭니다 (기존 projection 조회 없음).
+     */
+    OrderProjectionUpdate handle(DispatchEvent dispatchEvent);
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ import org.springframework.stereotype.Component;
 import vroong.laas.common.event.KafkaEventType;
 import vroong.laas.readmodel.projection.handler.common.DeliveryEventHandler;
 import vroong.laas.readmodel.projection.event.DeliveryEvent;
-import vroong.laas.readmodel.common.model.OrderAggregate;
+import vroong.laas.readmodel.common.model.OrderProjectionUpdate;
 
 import java.time.Instant;
 
@@ -19,35 +19,26 @@ public class DeliveryPickedUpHandler implements DeliveryEventHandler {
     }
 
     @Override
-    public OrderAggregate handle(OrderAggregate existingProjection, DeliveryEvent deliveryEvent) {
+    public OrderProjectionUpdate handle(DeliveryEvent deliveryEvent) {
         log.debug("Handling delivery picked up event: deliveryId={}, agentId={}", 
                 deliveryEvent.getDeliveryId(), deliveryEvent.getAgentId());
         
         Instant now = Instant.now();
         
-        // 기존 DeliveryInfo 업데이트 (toBuilder 사용)
-        OrderAggregate.DeliveryInfo existingDeliveryInfo = existingProjection.getDeliveryInfo();
-        if (existingDeliveryInfo == null) {
-            log.warn("DeliveryInfo is null for picked up event: deliveryId={}", 
-                    deliveryEvent.getDeliveryId());
-            throw new IllegalStateException("DeliveryInfo must exist before picked up event");
-        }
-        
-        OrderAggregate.DeliveryInfo updatedDeliveryInfo = existingDeliveryInfo.toBuilder()
+        // 픽업 시각과 상태만 업데이트 (배송 시작보다 먼저 도착해도 반영)
+        OrderProjectionUpdate update = OrderProjectionUpdate.builder()
+                .orderId(deliveryEvent.getOrderId())
+                .section(OrderProjectionUpdate.Section.DELIVERY_PICKED_UP)
+                .eventAt(deliveryEvent.getTimestamp())
                 .deliveryStatus(deliveryEvent.getDeliveryStatus())
                 .deliveryPickedUpAt(deliveryEvent.getPickedUpAt())
-                .build();
-        
-        // OrderAggregate 업데이트
-        OrderAggregate updatedProjection = existingProjection.toBuilder()
-                .deliveryInfo(updatedDeliveryInfo)
                 .updatedAt(now)
                 .build();
         
         log.info("Delivery picked up: deliveryId={}, agentId={}, orderId={}", 
                 deliveryEvent.getDeliveryId(), deliveryEvent.getAgentId(), 
-                existingProjection.getOrderId());
+                deliveryEvent.getOrderId());
         
-        return updatedProjection;
+        return update;
     }
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ import org.springframework.stereotype.Component;
 import vroong.laas.common.event.KafkaEventType;
 import vroong.laas.readmodel.projection.handler.common.DeliveryEventHandler;
 import vroong.laas.readmodel.projection.event.DeliveryEvent;
-import vroong.laas.readmodel.common.model.OrderAggregate;
+import vroong.laas.readmodel.common.model.OrderProjectionUpdate;
 
 import java.time.Instant;
 
@@ -19,35 +19,29 @@ public class DeliveryStartedHandler implements DeliveryEventHandler {
     }
 
     @Override
-    public OrderAggregate handle(OrderAggregate existingProjection, DeliveryEvent deliveryEvent) {
+    public OrderProjectionUpdate handle(DeliveryEvent deliveryEvent) {
         log.debug("Handling delivery started event: deliveryId={}, agentId={}", 
                 deliveryEvent.getDeliveryId(), deliveryEvent.getAgentId());
         
         Instant now = Instant.now();
         
-        // 기존 DeliveryInfo가 있으면 업데이트, 없으면 새로 생성
-        OrderAggregate.DeliveryInfo deliveryInfo = OrderAggregate.DeliveryInfo.builder()
-                .deliveryNumber(null)  // TODO: 이벤트에서 받아오도록 수정 필요
-                .agentId(deliveryEvent.getAgentId())
-                .deliveryFee(null)  // TODO: 이벤트에서 받아오도록 수정 필요
+        // deliveryId와 배송 시작 단계의 필드만 업데이트 (뒤 단계가 먼저 반영됐어도 그 필드는 유지)
+        // TODO: deliveryNumber, deliveryFee는 이벤트에서 받아오도록 수정 필요
+        OrderProjectionUpdate update = OrderProjectionUpdate.builder()
+                .orderId(deliveryEvent.getOrderId())
+                .section(OrderProjectionUpdate.Section.DELIVERY_STARTED)
+                .eventAt(deliveryEvent.getTimestamp())
+                .deliveryId(deliveryEvent.getDeliveryId())
+                .deliveryAgentId(deliveryEvent.getAgentId())
                 .deliveryStatus(deliveryEvent.getDeliveryStatus())
                 .deliveryStartedAt(deliveryEvent.getStartedAt())
-                .deliveryPickedUpAt(null)
-                .deliveryDeliveredAt(null)
-                .deliveryCancelledAt(null)
-                .build();
-        
-        // OrderAggregate 업데이트
-        OrderAggregate updatedProjection = existingProjection.toBuilder()
-                .deliveryId(deliveryEvent.getDeliveryId())
-                .deliveryInfo(deliveryInfo)
                 .updatedAt(now)
                 .build();
         
         log.info("Delivery started: deliveryId={}, agentId={}, orderId={}", 
                 deliveryEvent.getDeliveryId(), deliveryEvent.getAgentId(), 
-                existingProjection.getOrderId());
+                deliveryEvent.getOrderId());
         
-        return updatedProjection;
+        return update;
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import vroong.laas.common.event.KafkaEventType;
 import vroong.laas.readmodel.projection.handler.common.DispatchEventHandler;
 import vroong.laas.readmodel.projection.event.DispatchEvent;
 import vroong.laas.readmodel.common.model.OrderAggregate;
+import vroong.laas.readmodel.common.model.OrderProjectionUpdate;
 
 import java.time.Instant;
 
@@ -19,16 +20,10 @@ public class DispatchDispatchedHandler implements DispatchEventHandler {
     }
 
     @Override
-    public OrderAggregate handle(OrderAggregate existingProjection, DispatchEvent dispatchEvent) {
+    public OrderProjectionUpdate handle(DispatchEvent dispatchEvent) {
         log.debug("Handling dispatch dispatched event: dispatchId={}, orderId={}, agentId={}", 
                 dispatchEvent.getDispatchId(), dispatchEvent.getOrderId(), dispatchEvent.getAgentId());
         
-        if (!existingProjection.getOrderId().equals(dispatchEvent.getOrderId())) {
-            log.warn("Order ID mismatch: projection={}, event={}", 
-                    existingProjection.getOrderId(), dispatchEvent.getOrderId());
-            throw new IllegalArgumentException("Order ID mismatch in dispatch event");
-        }
-        
         Instant now = Instant.now();
         
         // DispatchInfo 구성
@@ -38,19 +33,22 @@ public class DispatchDispatchedHandler implements DispatchEventHandler {
                 .dispatchedAt(dispatchEvent.getDispatchedAt())
                 .build();
         
-        // OrderAggregate 업데이트
-        OrderAggregate updatedProjection = existingProjection.toBuilder()
+        // dispatchId, dispatchInfo만 업데이트
+        OrderProjectionUpdate update = OrderProjectionUpdate.builder()
+                .orderId(dispatchEvent.getOrderId())
+                .section(OrderProjectionUpdate.Section.DISPATCH)
+                .eventAt(dispatchEvent.getTimestamp())
                 .dispatchId(dispatchEvent.getDispatchId())
                 .dispatchInfo(dispatchInfo)
                 .updatedAt(now)
                 .build();
         
         log.info("Updated dispatch projection: orderId={}, dispatchId={}, agentId={}, suggestedFee={}", 
-                updatedProjection.getOrderId(), 
-                updatedProjection.getDispatchId(),
-                updatedProjection.getDispatchInfo().getAgentId(),
-                updatedProjection.getDispatchInfo().getSuggestedFee());
+                update.getOrderId(), 
+                update.getDispatchId(),
+                dispatchInfo.getAgentId(),
+                dispatchInfo.getSuggestedFee());
         
-        return updatedProjection;
+        return update;
     }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package vroong.laas.readmodel.projection.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import vroong.laas.readmodel.projection.handler.DeliveryProjectionHandler;
 import vroong.laas.readmodel.projection.handler.DispatchProjectionHandler;
 import vroong.laas.readmodel.projection.handler.OrderProjectionHandler;
@@ -10,123 +13,299 @@ import vroong.laas.readmodel.projection.event.DeliveryEvent;
 import vroong.laas.readmodel.projection.event.DispatchEvent;
 import vroong.laas.readmodel.projection.event.OrderEvent;
 import vroong.laas.readmodel.common.model.OrderAggregate;
+import vroong.laas.readmodel.common.model.OrderProjectionUpdate;
+import vroong.laas.common.event.KafkaEvent;
+import vroong.laas.common.event.KafkaEventPayload;
+import vroong.laas.common.event.KafkaEventSource;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 이벤트별 projection 처리를 조율하는 서비스
+ *
+ * 저장소 접근은 모두 non-blocking이며, 처리 결과는 Mono로 반환합니다.
+ *
+ * 이벤트 하나는 단계(section)별 마지막 반영 이벤트 시각보다 이르지 않을 때만 반영하고, 전체 저장은 projection 버전 조건으로 합니다.
+ * 같은 주문의 이벤트를 동시에 처리하거나 순서가 바뀐 이벤트를 처리해도 이전 상태가 새 상태를 덮어쓰지 않습니다.
+ *
+ * 반영하지 않은 이벤트(projection이 없거나, 같은 단계에 더 늦은 이벤트가 반영됨)는 경고 로그와
+ * readmodel.projection.skipped 카운터(source 태그)로 남깁니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ProjectionOrchestrator {
 
     private final OrderProjectionHandler orderProjectionHandler;
     private final DeliveryProjectionHandler deliveryProjectionHandler;  
     private final DispatchProjectionHandler dispatchProjectionHandler;
     private final ProjectionService projectionService;
+    private final Map<KafkaEventSource, Counter> skippedCounters = new EnumMap<>(KafkaEventSource.class);
+
+    public ProjectionOrchestrator(
+            OrderProjectionHandler orderProjectionHandler,
+            DeliveryProjectionHandler deliveryProjectionHandler,
+            DispatchProjectionHandler dispatchProjectionHandler,
+            ProjectionService projectionService,
+            MeterRegistry meterRegistry) {
+        this.orderProjectionHandler = orderProjectionHandler;
+        this.deliveryProjectionHandler = deliveryProjectionHandler;
+        this.dispatchProjectionHandler = dispatchProjectionHandler;
+        this.projectionService = projectionService;
+        for (KafkaEventSource source : KafkaEventSource.values()) {
+            skippedCounters.put(source, Counter.builder("readmodel.projection.skipped")
+                    .description("projection이 없거나 같은 단계에 더 늦은 이벤트가 반영돼 있어 반영하지 않은 이벤트 수")
+                    .tag("source", source.getValue())
+                    .register(meterRegistry));
+        }
+    }
 
     /**
      * Order 이벤트 처리 (생성, 수정, 취소 등)
      */
-    public void handleOrderEvent(OrderEvent orderEvent) {
+    public Mono<Void> handleOrderEvent(OrderEvent orderEvent) {
         log.debug("Orchestrating order event: orderId={}, eventType={}", 
                 orderEvent.getOrderId(), orderEvent.getKafkaEvent().getType());
         
-        try {
-            // 1. Order projection 처리 (생성/수정/취소 등)
-            OrderAggregate projection = orderProjectionHandler.handleOrderEvent(orderEvent);
-            
-            // 2. Redis + MongoDB에 저장
-            projectionService.saveOrderProjection(projection);
-            
-            log.info("Successfully processed order event: orderId={}, eventType={}", 
-                    orderEvent.getOrderId(), orderEvent.getKafkaEvent().getType());
-            
-        } catch (Exception e) {
-            log.error("Failed to process order event: orderId={}, eventType={}, error={}", 
-                    orderEvent.getOrderId(), orderEvent.getKafkaEvent().getType(), e.getMessage(), e);
-            throw new RuntimeException("Failed to process order event", e);
-        }
+        // 1. Order projection 처리 (생성/수정/취소 등)
+        return Mono.fromCallable(() -> OrderProjectionUpdate.ofOrder(
+                        orderProjectionHandler.handleOrderEvent(orderEvent), orderEvent.getTimestamp()))
+                // 2. 저장소에 반영 (projection이 없으면 생성, 있으면 orderInfo만 교체)
+                .flatMap(projectionService::updateOrderProjection)
+                .filter(applied -> {
+                    if (!applied) {
+                        // 더 늦은 주문 이벤트가 이미 반영됨
+                        skipped(KafkaEventSource.ORDER);
+                        log.warn("Order projection not updated for order event: orderId={}, eventId={}",
+                                orderEvent.getOrderId(), orderEvent.getEventId());
+                    }
+                    return applied;
+                })
+                .doOnNext(saved -> log.info("Successfully processed order event: orderId={}, eventType={}", 
+                        orderEvent.getOrderId(), orderEvent.getKafkaEvent().getType()))
+                .onErrorMap(e -> {
+                    log.error("Failed to process order event: orderId={}, eventType={}, error={}", 
+                            orderEvent.getOrderId(), orderEvent.getKafkaEvent().getType(), e.getMessage(), e);
+                    return new RuntimeException("Failed to process order event", e);
+                })
+                .then();
     }
 
     /**
      * Dispatch 이벤트 처리
      */
-    public void handleDispatchEvent(DispatchEvent dispatchEvent) {
+    public Mono<Void> handleDispatchEvent(DispatchEvent dispatchEvent) {
         log.debug("Orchestrating dispatch event: dispatchId={}, orderId={}", 
                 dispatchEvent.getDispatchId(), dispatchEvent.getOrderId());
         
-        try {
-            // 1. 기존 projection 조회
-            Optional<OrderAggregate> existingProjection =
-                    projectionService.getOrderProjection(dispatchEvent.getOrderId());
-            
-            if (existingProjection.isEmpty()) {
-                log.warn("Order projection not found for dispatch event: orderId={}, dispatchId={}", 
-                        dispatchEvent.getOrderId(), dispatchEvent.getDispatchId());
-                return;
-            }
-            
-            // 2. Dispatch 정보 업데이트
-            OrderAggregate updatedProjection = dispatchProjectionHandler.updateDispatchInfo(
-                    existingProjection.get(), dispatchEvent);
-            
-            // 3. 저장
-            projectionService.saveOrderProjection(updatedProjection);
-            
-            
-            log.info("Successfully processed dispatch event: dispatchId={}, orderId={}", 
-                    dispatchEvent.getDispatchId(), dispatchEvent.getOrderId());
-            
-        } catch (Exception e) {
-            log.error("Failed to process dispatch event: dispatchId={}, orderId={}, error={}", 
-                    dispatchEvent.getDispatchId(), dispatchEvent.getOrderId(), e.getMessage(), e);
-            throw new RuntimeException("Failed to process dispatch event", e);
-        }
+        // 1. 바뀌는 필드만 담은 부분 업데이트 생성 (기존 projection 조회 없음)
+        return Mono.fromCallable(() -> dispatchProjectionHandler.updateDispatchInfo(dispatchEvent))
+                // 2. 저장소에 부분 업데이트 반영
+                .flatMap(projectionService::updateOrderProjection)
+                .filter(applied -> {
+                    if (!applied) {
+                        // projection이 없거나, 더 늦은 배차 이벤트가 이미 반영됨
+                        skipped(KafkaEventSource.DISPATCH);
+                        log.warn("Order projection not updated for dispatch event: orderId={}, dispatchId={}", 
+                                dispatchEvent.getOrderId(), dispatchEvent.getDispatchId());
+                    }
+                    return applied;
+                })
+                .doOnNext(saved -> log.info("Successfully processed dispatch event: dispatchId={}, orderId={}", 
+                        dispatchEvent.getDispatchId(), dispatchEvent.getOrderId()))
+                .onErrorMap(e -> {
+                    log.error("Failed to process dispatch event: dispatchId={}, orderId={}, error={}", 
+                            dispatchEvent.getDispatchId(), dispatchEvent.getOrderId(), e.getMessage(), e);
+                    return new RuntimeException("Failed to process dispatch event", e);
+                })
+                .then();
     }
 
     /**
      * Delivery 이벤트 처리
      */
-    public void handleDeliveryEvent(DeliveryEvent deliveryEvent) {
+    public Mono<Void> handleDeliveryEvent(DeliveryEvent deliveryEvent) {
         log.debug("Orchestrating delivery event: deliveryId={}, agentId={}, eventType={}", 
                 deliveryEvent.getDeliveryId(), deliveryEvent.getAgentId(), deliveryEvent.getEventType());
         
-        try {
-            // 1. delivery event에서 직접 orderId 사용
-            Long orderId = deliveryEvent.getOrderId();
-            
-            if (orderId == null) {
-                log.warn("Order ID not found in delivery event: deliveryId={}, agentId={}", 
-                        deliveryEvent.getDeliveryId(), deliveryEvent.getAgentId());
-                return;
-            }
-            
-            // 2. 기존 projection 조회
-            Optional<OrderAggregate> existingProjection = projectionService.getOrderProjection(orderId);
-            
-            if (existingProjection.isEmpty()) {
-                log.warn("Order projection not found for delivery event: orderId={}, deliveryId={}", 
-                        orderId, deliveryEvent.getDeliveryId());
-                return;
+        // 1. delivery event에서 직접 orderId 사용
+        Long orderId = deliveryEvent.getOrderId();
+        
+        if (orderId == null) {
+            log.warn("Order ID not found in delivery event: deliveryId={}, agentId={}", 
+                    deliveryEvent.getDeliveryId(), deliveryEvent.getAgentId());
+            return Mono.empty();
+        }
+        
+        // 2. 바뀌는 필드만 담은 부분 업데이트 생성 (기존 projection 조회 없음)
+        return Mono.fromCallable(() -> deliveryProjectionHandler.updateDeliveryStatus(deliveryEvent))
+                // 3. 저장소에 부분 업데이트 반영
+                .flatMap(projectionService::updateOrderProjection)
+                .filter(applied -> {
+                    if (!applied) {
+                        // projection이 없거나, 같은 배송 단계에 더 늦은 이벤트가 이미 반영됨
+                        skipped(KafkaEventSource.DELIVERY);
+                        log.warn("Order projection not updated for delivery event: orderId={}, deliveryId={}", 
+                                orderId, deliveryEvent.getDeliveryId());
+                    }
+                    return applied;
+                })
+                .doOnNext(saved -> log.info(
+                        "Successfully processed delivery event: deliveryId={}, orderId={}, eventType={}", 
+                        deliveryEvent.getDeliveryId(), orderId, deliveryEvent.getEventType()))
+                .onErrorMap(e -> {
+                    log.error("Failed to process delivery event: deliveryId={}, agentId={}, error={}", 
+                            deliveryEvent.getDeliveryId(), deliveryEvent.getAgentId(), e.getMessage(), e);
+                    return new RuntimeException("Failed to process delivery event", e);
+                })
+                .then();
+    }
+
+    /**
+     * 주문별 이벤트들을 메모리에서 순서대로 반영한 뒤 한 번에 저장 (배치 consumer)
+     *
+     * 기존 projection은 한 번에 조회합니다 (주문 이벤트도 기존 배차/배송 정보를 유지하며 반영).
+     * 같은 단계에 더 늦은 이벤트가 반영돼 있으면 건너뛰고 readmodel.projection.skipped 카운터에 더합니다.
+     * 이벤트 하나의 처리 실패는 단건 처리와 같이 로그만 남기고 다음 이벤트를 반영합니다.
+     * 반영된 projection은 saveOrderProjections로 모아서 저장합니다 (MongoDB bulkWrite 한 번).
+     * 조회 이후 다른 쓰기가 있어 저장하지 못한 주문(버전 충돌)은 이벤트를 단건 처리로 다시 반영합니다.
+     *
+     * @param eventsByOrderId 주문 ID별 이벤트 (반영 순서로 정렬: order → dispatch → delivery)
+     * @return 저장된 주문들에 반영된 이벤트 수
+     */
+    public Mono<Integer> handleOrderEvents(Map<Long, List<KafkaEvent<? extends KafkaEventPayload>>> eventsByOrderId) {
+        log.debug("Orchestrating events for orders: orders={}", eventsByOrderId.size());
+
+        // 기존 projection 조회 (Redis MGET, MongoDB $in 각 한 번)
+        List<Long> orderIdsToLoad = eventsByOrderId.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .map(Map.Entry::getKey)
+                .toList();
+
+        return projectionService.getOrderProjections(orderIdsToLoad)
+                .flatMapMany(existingProjections -> Flux.fromIterable(eventsByOrderId.entrySet())
+                        .filter(entry -> !entry.getValue().isEmpty())
+                        .map(entry -> fold(entry.getKey(), existingProjections.get(entry.getKey()), entry.getValue())))
+                .filter(result -> result.applied() > 0)
+                .collectList()
+                .flatMap(results -> {
+                    if (results.isEmpty()) {
+                        return Mono.just(0);
+                    }
+
+                    Map<Long, Integer> appliedByOrderId = new HashMap<>();
+                    results.forEach(result -> appliedByOrderId.put(result.projection().getOrderId(), result.applied()));
+
+                    return projectionService.saveOrderProjections(results.stream().map(FoldResult::projection).toList())
+                            .flatMap(saved -> {
+                                int applied = saved.saved().stream()
+                                        .mapToInt(projection -> appliedByOrderId.getOrDefault(projection.getOrderId(), 0))
+                                        .sum();
+                                return replay(saved.failures().keySet(), eventsByOrderId)
+                                        .map(replayed -> applied + replayed);
+                            })
+                            .doOnSuccess(applied -> log.info(
+                                    "Successfully processed events for orders: orders={}, applied={}",
+                                    results.size(), applied));
+                });
+    }
+
+    /**
+     * 일괄 저장하지 못한 주문의 이벤트를 단건 처리로 다시 반영
+     *
+     * 단건 처리는 저장소에서 단계별 이벤트 시각 조건으로 반영하므로, 순서가 뒤바뀐 이벤트가 새 상태를 덮어쓰지 않습니다.
+     * 주문 안에서는 이벤트 순서대로, 주문끼리는 동시에 처리합니다.
+     *
+     * @return 처리된 이벤트 수
+     */
+    private Mono<Integer> replay(
+            Collection<Long> orderIds,
+            Map<Long, List<KafkaEvent<? extends KafkaEventPayload>>> eventsByOrderId) {
+        if (orderIds.isEmpty()) {
+            return Mono.just(0);
+        }
+        log.warn("Replaying events for orders not saved in batch: orderIds={}", orderIds);
+
+        return Flux.fromIterable(orderIds)
+                .flatMap(orderId -> Flux.fromIterable(eventsByOrderId.getOrDefault(orderId, List.of()))
+                        .concatMap(kafkaEvent -> handleEvent(kafkaEvent)
+                                .thenReturn(1)
+                                .onErrorResume(e -> Mono.just(0)))
+                        .reduce(0, Integer::sum))
+                .reduce(0, Integer::sum);
+    }
+
+    private Mono<Void> handleEvent(KafkaEvent<? extends KafkaEventPayload> kafkaEvent) {
+        return switch (kafkaEvent.getSource()) {
+            case ORDER -> handleOrderEvent(new OrderEvent(kafkaEvent));
+            case DISPATCH -> handleDispatchEvent(new DispatchEvent(kafkaEvent));
+            case DELIVERY -> handleDeliveryEvent(new DeliveryEvent(kafkaEvent));
+            default -> Mono.error(new IllegalArgumentException("Unsupported event source: " + kafkaEvent.getSource()));
+        };
+    }
+
+    private FoldResult fold(
+            Long orderId,
+            OrderAggregate projection,
+            List<KafkaEvent<? extends KafkaEventPayload>> kafkaEvents) {
+        int applied = 0;
+
+        for (KafkaEvent<? extends KafkaEventPayload> kafkaEvent : kafkaEvents) {
+            try {
+                OrderProjectionUpdate update;
+                if (kafkaEvent.getSource() == KafkaEventSource.ORDER) {
+                    // 주문 이벤트는 projection이 없으면 새로 만들고, 있으면 orderInfo만 교체 (단건 처리와 동일)
+                    OrderAggregate created = orderProjectionHandler.handleOrderEvent(new OrderEvent(kafkaEvent));
+                    update = OrderProjectionUpdate.ofOrder(created, kafkaEvent.getTimestamp());
+                    if (projection == null) {
+                        projection = created;
+                    }
+                } else {
+                    if (projection == null) {
+                        skipped(kafkaEvent.getSource());
+                        log.warn("Order projection not found for event: orderId={}, eventType={}",
+                                orderId, kafkaEvent.getType());
+                        continue;
+                    }
+
+                    update = switch (kafkaEvent.getSource()) {
+                        case DISPATCH -> dispatchProjectionHandler.updateDispatchInfo(new DispatchEvent(kafkaEvent));
+                        case DELIVERY -> deliveryProjectionHandler.updateDeliveryStatus(new DeliveryEvent(kafkaEvent));
+                        default -> throw new IllegalArgumentException("Unsupported event source: " + kafkaEvent.getSource());
+                    };
+                }
+
+                if (update.isStaleFor(projection)) {
+                    skipped(kafkaEvent.getSource());
+                    log.warn("Skipping event older than the applied one: orderId={}, eventId={}, eventType={}, "
+                                    + "eventAt={}, appliedEventAt={}",
+                            orderId, kafkaEvent.getEventId(), kafkaEvent.getType(),
+                            update.getEventAt(), update.getSection().getEventAt(projection));
+                    continue;
+                }
+
+                projection = update.applyTo(projection);
+                applied++;
+
+            } catch (Exception e) {
+                log.error("Failed to apply event: orderId={}, eventId={}, eventType={}, error={}",
+                        orderId, kafkaEvent.getEventId(), kafkaEvent.getType(), e.getMessage(), e);
             }
-            
-            // 3. Delivery 상태 업데이트
-            OrderAggregate updatedProjection = deliveryProjectionHandler.updateDeliveryStatus(
-                    existingProjection.get(), deliveryEvent);
-            
-            // 4. 저장
-            projectionService.saveOrderProjection(updatedProjection);
-            
-            
-            log.info("Successfully processed delivery event: deliveryId={}, orderId={}, eventType={}", 
-                    deliveryEvent.getDeliveryId(), orderId, deliveryEvent.getEventType());
-            
-        } catch (Exception e) {
-            log.error("Failed to process delivery event: deliveryId={}, agentId={}, error={}", 
-                    deliveryEvent.getDeliveryId(), deliveryEvent.getAgentId(), e.getMessage(), e);
-            throw new RuntimeException("Failed to process delivery event", e);
         }
+
+        return new FoldResult(projection, applied);
+    }
+
+    private void skipped(KafkaEventSource source) {
+        Counter counter = skippedCounters.get(source);
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private record FoldResult(OrderAggregate projection, int applied) {
     }
-}
\ No newline at end of file
+}
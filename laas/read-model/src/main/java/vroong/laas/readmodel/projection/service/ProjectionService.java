@@ -3,12 +3,26 @@ package vroong.laas.readmodel.projection.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 import vroong.laas.readmodel.common.model.OrderAggregate;
+import vroong.laas.readmodel.common.model.OrderProjectionUpdate;
+import vroong.laas.readmodel.common.repository.mongo.OrderBulkWriteResult;
 import vroong.laas.readmodel.common.repository.mongo.OrderProjectionMongoRepository;
 import vroong.laas.readmodel.common.repository.redis.OrderProjectionRedisRepository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
+/**
+ * OrderProjection 저장소(Redis + MongoDB) 접근 서비스
+ *
+ * 모든 메서드는 Mono를 반환하며 block하지 않습니다. 호출하는 스레드(Kafka listener 등)는 저장소 응답을 기다리지 않습니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -18,26 +32,133 @@ public class ProjectionService {
     private final OrderProjectionMongoRepository mongoRepository;
 
     /**
-     * OrderProjection을 Redis와 MongoDB에 저장합니다.
-     * Redis는 1일 TTL로 캐시 역할을 하고, MongoDB는 영구 저장소 역할을 합니다.
+     * OrderProjection을 Redis와 MongoDB에 동시에 저장합니다.
+     * Redis는 1일 TTL로 캐시 역할을 하고, MongoDB는 영구 저장소(원본) 역할을 합니다.
+     *
+     * 실패 정책
+     * - Redis 저장 실패: 키를 삭제해 다음 조회가 MongoDB에서 읽도록 하고, 저장은 성공으로 처리
+     * - MongoDB 저장 실패: Redis에 먼저 반영된 값이 원본보다 앞서지 않도록 키를 삭제하고 에러 전파
+     *
+     * 두 쓰기가 모두 끝난 뒤에 키를 삭제하므로 삭제 후에 Redis 쓰기가 도착하는 경우는 없습니다.
+     *
+     * projection은 조회한 버전 그대로 넘기며, 다음 버전으로 저장합니다.
+     * 그 사이 다른 쓰기가 있었으면 MongoDB 저장이 버전 충돌로 실패합니다 (OptimisticLockingFailureException).
      */
-    public void saveOrderProjection(OrderAggregate projection) {
-        log.debug("Saving order projection: orderId={}", projection.getOrderId());
+    public Mono<OrderAggregate> saveOrderProjection(OrderAggregate current) {
+        Long orderId = current.getOrderId();
+        OrderAggregate projection = current.nextVersion();
+        log.debug("Saving order projection: orderId={}, version={}", orderId, projection.getVersion());
         
-        try {
-            // Redis에 저장 (1일 TTL, Reactive → Blocking)
-            redisRepository.save(projection).block();
-            
-            // MongoDB에 저장 (영구 보관, Reactive → Blocking)
-            mongoRepository.save(projection).block();
-            
-            log.info("Successfully saved order projection: orderId={}", projection.getOrderId());
-            
-        } catch (Exception e) {
-            log.error("Failed to save order projection: orderId={}, error={}", 
-                    projection.getOrderId(), e.getMessage(), e);
-            throw new RuntimeException("Failed to save order projection", e);
+        Mono<Boolean> redisSave = redisRepository.save(projection)
+                .thenReturn(true)
+                .onErrorReturn(false);
+
+        return Mono.zipDelayError(mongoRepository.save(projection), redisSave)
+                .flatMap(saved -> saved.getT2()
+                        ? Mono.just(saved.getT1())
+                        : evictRedis(orderId).thenReturn(saved.getT1()))
+                .onErrorResume(e -> evictRedis(orderId).then(Mono.error(e)))
+                .doOnSuccess(saved -> log.info("Successfully saved order projection: orderId={}", orderId))
+                .onErrorMap(e -> {
+                    log.error("Failed to save order projection: orderId={}, error={}", 
+                            orderId, e.getMessage(), e);
+                    return new RuntimeException("Failed to save order projection", e);
+                });
+    }
+
+    /**
+     * OrderProjection의 일부 필드만 업데이트합니다 (이벤트 하나).
+     *
+     * 기존 projection을 읽지 않고 MongoDB에 findAndModify로 반영한 뒤, 반영된 문서를 Redis에 조건부로 저장합니다.
+     * - MongoDB: 같은 단계(section)에 더 늦은 이벤트가 반영돼 있으면 반영하지 않음 (순서 역전)
+     * - Redis: 반영된 문서의 버전이 저장된 값보다 클 때만 저장 (동시에 처리된 다른 업데이트의 결과를 덮어쓰지 않음)
+     * 같은 주문의 이벤트를 동시에 처리해도 잠금 없이 마지막 상태로 수렴합니다.
+     * Redis 저장에 실패하면 키를 삭제해 다음 조회가 MongoDB에서 읽도록 합니다.
+     *
+     * @return 반영 여부 (projection이 없거나, 같은 단계에 더 늦은 이벤트가 반영돼 있으면 false)
+     */
+    public Mono<Boolean> updateOrderProjection(OrderProjectionUpdate update) {
+        Long orderId = update.getOrderId();
+        log.debug("Updating order projection fields: orderId={}, section={}, eventAt={}",
+                orderId, update.getSection(), update.getEventAt());
+
+        return mongoRepository.update(update)
+                .flatMap(updated -> redisRepository.save(updated)
+                        .onErrorResume(e -> evictRedis(orderId).thenReturn(updated))
+                        .thenReturn(true))
+                .defaultIfEmpty(false)
+                .onErrorResume(e -> evictRedis(orderId).then(Mono.error(e)))
+                .onErrorMap(e -> {
+                    log.error("Failed to update order projection: orderId={}, error={}",
+                            orderId, e.getMessage(), e);
+                    return new RuntimeException("Failed to update order projection", e);
+                });
+    }
+
+    /**
+     * 여러 OrderProjection을 한 번에 저장합니다 (배치 consumer, 재구축 등).
+     *
+     * MongoDB는 bulkWrite 한 번으로 저장하고, Redis 쓰기는 동시에 진행합니다.
+     * 실패 정책은 saveOrderProjection과 같습니다: MongoDB 또는 Redis에 저장하지 못한 주문은 Redis 키를 삭제하고,
+     * MongoDB에 저장하지 못한 주문은 결과의 failures로 돌려줍니다.
+     * 버전 조건도 saveOrderProjection과 같으며, 그 사이 다른 쓰기가 있었던 주문은 failures에 담깁니다.
+     */
+    public Mono<OrderBulkWriteResult> saveOrderProjections(List<OrderAggregate> currents) {
+        log.debug("Saving order projections: count={}", currents.size());
+
+        if (currents.isEmpty()) {
+            return Mono.just(new OrderBulkWriteResult(List.of(), Map.of()));
+        }
+
+        List<OrderAggregate> projections = currents.stream()
+                .map(OrderAggregate::nextVersion)
+                .toList();
+
+        return Mono.zipDelayError(mongoRepository.saveAll(projections), redisRepository.saveAll(projections))
+                .flatMap(saved -> {
+                    OrderBulkWriteResult result = saved.getT1();
+                    Set<Long> evictTargets = new HashSet<>(result.failures().keySet());
+                    projections.stream()
+                            .map(OrderAggregate::getOrderId)
+                            .filter(orderId -> !saved.getT2().contains(orderId))
+                            .forEach(evictTargets::add);
+
+                    return evictRedis(evictTargets).thenReturn(result);
+                })
+                .onErrorResume(e -> evictRedis(projections.stream().map(OrderAggregate::getOrderId).toList())
+                        .then(Mono.error(e)))
+                .doOnSuccess(result -> {
+                    if (result.hasFailures()) {
+                        log.warn("Some order projections were not saved: saved={}, failures={}",
+                                result.saved().size(), result.failures());
+                    } else {
+                        log.info("Successfully saved order projections: count={}", result.saved().size());
+                    }
+                })
+                .onErrorMap(e -> {
+                    log.error("Failed to save order projections: count={}, error={}",
+                            projections.size(), e.getMessage(), e);
+                    return new RuntimeException("Failed to save order projections", e);
+                });
+    }
+
+    /**
+     * Redis 캐시 무효화 (DEL 한 번)
+     */
+    private Mono<Long> evictRedis(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Mono.just(0L);
         }
+        log.warn("Evicting order projections from Redis: orderIds={}", orderIds);
+        return redisRepository.deleteAllByOrderIds(orderIds);
+    }
+
+    /**
+     * Redis 캐시 무효화 (실패는 로그만 남기며, 남은 값은 TTL로 만료)
+     */
+    private Mono<Boolean> evictRedis(Long orderId) {
+        log.warn("Evicting order projection from Redis: orderId={}", orderId);
+        return redisRepository.deleteByOrderId(orderId);
     }
 
     /**
@@ -45,105 +166,124 @@ public class ProjectionService {
      * 1. Redis에서 먼저 조회
      * 2. Redis에 없으면 MongoDB에서 조회
      * 3. MongoDB에서 찾으면 Redis에 캐시
+     *
+     * 찾지 못하거나 조회에 실패하면 빈 Mono를 반환합니다.
      */
-    public Optional<OrderAggregate> getOrderProjection(Long orderId) {
+    public Mono<OrderAggregate> getOrderProjection(Long orderId) {
         log.debug("Getting order projection: orderId={}", orderId);
         
-        try {
-            // 1. Redis에서 먼저 조회 (Reactive → Blocking)
-            OrderAggregate redisResult = redisRepository.findByOrderId(orderId).block();
-            if (redisResult != null) {
-                log.debug("Found order projection in Redis: orderId={}", orderId);
-                return Optional.of(redisResult);
-            }
-            
-            // 2. Redis에 없으면 MongoDB에서 조회 (Reactive → Blocking)
-            OrderAggregate mongoResult = mongoRepository.findByOrderId(orderId).block();
-            if (mongoResult != null) {
-                log.debug("Found order projection in MongoDB, caching to Redis: orderId={}", orderId);
-                
-                // 3. MongoDB에서 찾으면 Redis에 캐시
-                try {
-                    redisRepository.save(mongoResult).block();
-                } catch (Exception e) {
-                    log.warn("Failed to cache projection to Redis: orderId={}, error={}", 
-                            orderId, e.getMessage());
-                    // Redis 캐싱 실패는 무시하고 MongoDB 결과 반환
-                }
-                
-                return Optional.of(mongoResult);
-            }
-            
-            log.debug("Order projection not found: orderId={}", orderId);
-            return Optional.empty();
-            
-        } catch (Exception e) {
-            log.error("Failed to get order projection: orderId={}, error={}", 
-                    orderId, e.getMessage(), e);
-            return Optional.empty();
-        }
+        // 1. Redis에서 먼저 조회
+        Mono<OrderAggregate> redisResult = redisRepository.findByOrderId(orderId)
+                .doOnNext(projection -> log.debug("Found order projection in Redis: orderId={}", orderId));
+
+        // 2. Redis에 없으면 MongoDB에서 조회
+        Mono<OrderAggregate> mongoResult = mongoRepository.findByOrderId(orderId)
+                .flatMap(projection -> {
+                    log.debug("Found order projection in MongoDB, caching to Redis: orderId={}", orderId);
+
+                    // 3. MongoDB에서 찾으면 Redis에 캐시 (실패는 무시하고 MongoDB 결과 반환)
+                    return redisRepository.save(projection)
+                            .onErrorResume(e -> {
+                                log.warn("Failed to cache projection to Redis: orderId={}, error={}", 
+                                        orderId, e.getMessage());
+                                return Mono.just(projection);
+                            });
+                });
+
+        return redisResult
+                .switchIfEmpty(mongoResult)
+                .switchIfEmpty(Mono.fromRunnable(() -> log.debug("Order projection not found: orderId={}", orderId)))
+                .onErrorResume(e -> {
+                    log.error("Failed to get order projection: orderId={}, error={}", 
+                            orderId, e.getMessage(), e);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 여러 OrderProjection을 한 번에 조회합니다.
+     * 1. Redis에서 MGET 한 번으로 조회
+     * 2. Redis에 없는 주문만 MongoDB에서 한 번에 조회
+     * 3. MongoDB에서 찾은 주문은 Redis에 캐시 (실패는 무시)
+     *
+     * Redis 조회 실패는 캐시 미스로 보고 MongoDB에서 읽지만, MongoDB 조회 실패는 그대로 전달해
+     * 호출하는 쪽(OrderKeyedExecutor)이 재시도하게 합니다.
+     *
+     * @return orderId → projection (찾지 못한 주문은 포함하지 않음)
+     */
+    public Mono<Map<Long, OrderAggregate>> getOrderProjections(Collection<Long> orderIds) {
+        log.debug("Getting order projections: count={}", orderIds.size());
+
+        return redisRepository.findAllByOrderIds(orderIds)
+                .flatMap(cached -> {
+                    List<Long> missed = orderIds.stream()
+                            .filter(orderId -> !cached.containsKey(orderId))
+                            .toList();
+                    if (missed.isEmpty()) {
+                        return Mono.just(cached);
+                    }
+
+                    return mongoRepository.findAllByOrderIds(missed)
+                            .flatMap(stored -> redisRepository.saveAll(stored.values())
+                                    .thenReturn(stored))
+                            .map(stored -> {
+                                Map<Long, OrderAggregate> projections = new HashMap<>(cached);
+                                projections.putAll(stored);
+                                return projections;
+                            });
+                });
     }
 
     /**
      * OrderProjection을 업데이트합니다.
      * 기존 projection을 조회한 후 새로운 정보로 업데이트하여 저장합니다.
      */
-    public Optional<OrderAggregate> updateOrderProjection(Long orderId,
-                                                          java.util.function.Function<OrderAggregate, OrderAggregate> updateFunction) {
+    public Mono<OrderAggregate> updateOrderProjection(Long orderId,
+                                                      Function<OrderAggregate, OrderAggregate> updateFunction) {
         log.debug("Updating order projection: orderId={}", orderId);
         
-        try {
-            Optional<OrderAggregate> existingProjection = getOrderProjection(orderId);
-            if (existingProjection.isEmpty()) {
-                log.warn("Cannot update non-existent order projection: orderId={}", orderId);
-                return Optional.empty();
-            }
-            
-            OrderAggregate updatedProjection = updateFunction.apply(existingProjection.get());
-            saveOrderProjection(updatedProjection);
-            
-            log.info("Successfully updated order projection: orderId={}", orderId);
-            return Optional.of(updatedProjection);
-            
-        } catch (Exception e) {
-            log.error("Failed to update order projection: orderId={}, error={}", 
-                    orderId, e.getMessage(), e);
-            return Optional.empty();
-        }
+        return getOrderProjection(orderId)
+                .switchIfEmpty(Mono.fromRunnable(
+                        () -> log.warn("Cannot update non-existent order projection: orderId={}", orderId)))
+                .map(updateFunction)
+                .flatMap(this::saveOrderProjection)
+                .doOnNext(updated -> log.info("Successfully updated order projection: orderId={}", orderId))
+                .onErrorResume(e -> {
+                    log.error("Failed to update order projection: orderId={}, error={}", 
+                            orderId, e.getMessage(), e);
+                    return Mono.empty();
+                });
     }
 
     /**
      * OrderProjection을 삭제합니다.
      * Redis와 MongoDB에서 모두 삭제합니다.
      */
-    public void deleteOrderProjection(Long orderId) {
+    public Mono<Void> deleteOrderProjection(Long orderId) {
         log.debug("Deleting order projection: orderId={}", orderId);
         
-        try {
-            redisRepository.deleteByOrderId(orderId);
-            mongoRepository.deleteByOrderId(orderId);
-            
-            log.info("Successfully deleted order projection: orderId={}", orderId);
-            
-        } catch (Exception e) {
-            log.error("Failed to delete order projection: orderId={}, error={}", 
-                    orderId, e.getMessage(), e);
-        }
+        return Mono.when(redisRepository.deleteByOrderId(orderId), mongoRepository.deleteByOrderId(orderId))
+                .doOnSuccess(ignored -> log.info("Successfully deleted order projection: orderId={}", orderId))
+                .onErrorResume(e -> {
+                    log.error("Failed to delete order projection: orderId={}, error={}", 
+                            orderId, e.getMessage(), e);
+                    return Mono.empty();
+                });
     }
 
     /**
      * OrderProjection의 존재 여부를 확인합니다.
      * Redis 또는 MongoDB 중 하나라도 존재하면 true를 반환합니다.
      */
-    public boolean existsOrderProjection(Long orderId) {
-        try {
-            Boolean redisExists = redisRepository.existsByOrderId(orderId).block();
-            Boolean mongoExists = mongoRepository.existsByOrderId(orderId).block();
-            return Boolean.TRUE.equals(redisExists) || Boolean.TRUE.equals(mongoExists);
-        } catch (Exception e) {
-            log.error("Failed to check order projection existence: orderId={}, error={}", 
-                    orderId, e.getMessage(), e);
-            return false;
-        }
+    public Mono<Boolean> existsOrderProjection(Long orderId) {
+        return redisRepository.existsByOrderId(orderId)
+                .filter(Boolean.TRUE::equals)
+                .switchIfEmpty(mongoRepository.existsByOrderId(orderId))
+                .map(Boolean.TRUE::equals)
+                .onErrorResume(e -> {
+                    log.error("Failed to check order projection existence: orderId={}, error={}", 
+                            orderId, e.getMessage(), e);
+                    return Mono.just(false);
+                });
     }
-}
\ No newline at end of file
+}
@@ -2,13 +2,17 @@ package vroong.laas.readmodel.query.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
+import vroong.laas.readmodel.common.exception.TooManyOrderIdsException;
 import vroong.laas.readmodel.query.controller.response.ApiResponse;
 import vroong.laas.readmodel.query.controller.response.OrderResponse;
 import vroong.laas.readmodel.query.service.OrderQueryService;
 
+import java.util.List;
+
 /**
  * Order Query Controller (Reactive)
  * 
@@ -28,6 +32,9 @@ public class OrderQueryController {
 
     private final OrderQueryService queryService;
 
+    @Value("${readmodel.query.max-order-ids:100}")
+    private int maxOrderIds;
+
     /**
      * Order ID로 Projection 조회 (Reactive)
      * 
@@ -46,6 +53,29 @@ public class OrderQueryController {
                         orderId, e.getMessage()));
     }
 
+    /**
+     * 여러 Order ID로 Projection 조회 (Reactive)
+     * 
+     * GET /api/v1/orders?orderIds=1,2,3
+     * 
+     * 한 번에 readmodel.query.max-order-ids개까지 조회할 수 있으며, 넘으면 400을 반환합니다.
+     * 
+     * @param orderIds Order ID 목록
+     * @return Mono<List<OrderResponse>> (찾지 못한 주문은 제외)
+     */
+    @GetMapping(params = "orderIds")
+    public Mono<ApiResponse<List<OrderResponse>>> getOrders(@RequestParam List<Long> orderIds) {
+        if (orderIds.size() > maxOrderIds) {
+            return Mono.error(new TooManyOrderIdsException(orderIds.size(), maxOrderIds));
+        }
+        log.info("GET /api/v1/orders?orderIds={}", orderIds);
+        
+        return queryService.getOrders(orderIds)
+                .map(ApiResponse::success)
+                .doOnError(e -> log.error("Failed to get order projections: orderIds={}, error={}", 
+                        orderIds, e.getMessage()));
+    }
+
     /**
      * Health Check
      */
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import reactor.core.publisher.Mono;
 import vroong.laas.readmodel.common.exception.OrderNotFoundException;
+import vroong.laas.readmodel.common.exception.TooManyOrderIdsException;
 
 /**
  * 전역 예외 처리 (Reactive)
@@ -26,6 +27,17 @@ public class GlobalExceptionHandler {
         return Mono.just(ApiResponse.error("ORDER_NOT_FOUND", ex.getMessage()));
     }
 
+    /**
+     * TooManyOrderIdsException 처리 (Reactive)
+     */
+    @ExceptionHandler(TooManyOrderIdsException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Mono<ApiResponse<Void>> handleTooManyOrderIds(TooManyOrderIdsException ex) {
+        log.warn("Too many order ids: requested={}, max={}", ex.getRequested(), ex.getMax());
+        
+        return Mono.just(ApiResponse.error("TOO_MANY_ORDER_IDS", ex.getMessage()));
+    }
+
     /**
      * 기타 예외 처리 (Reactive)
      */
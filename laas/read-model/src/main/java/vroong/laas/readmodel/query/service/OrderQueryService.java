@@ -3,6 +3,7 @@ package vroong.laas.readmodel.query.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 import vroong.laas.readmodel.query.client.DeliveryServiceClient;
@@ -18,6 +19,11 @@ import vroong.laas.readmodel.common.repository.redis.OrderProjectionRedisReposit
 import vroong.laas.readmodel.query.controller.response.OrderResponse;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Order Query Service (Reactive)
@@ -50,6 +56,50 @@ public class OrderQueryService {
                 .map(OrderResponse::fromOrderAggregate);
     }
     
+    /**
+     * 여러 Order 조회 (API Response용)
+     * 
+     * Redis MGET → MongoDB $in 순서로 주문 수와 관계없이 저장소별로 한 번씩 조회합니다.
+     * 찾지 못한 주문은 결과에서 빠집니다 (Write Service Fallback 없음).
+     * 
+     * @param orderIds Order ID 목록
+     * @return Mono<List<OrderResponse>> (요청 순서)
+     */
+    public Mono<List<OrderResponse>> getOrders(List<Long> orderIds) {
+        log.debug("Querying Order Projections: count={}", orderIds.size());
+        
+        // 1. Redis 캐시 조회 (MGET)
+        return redisRepository.findAllByOrderIds(orderIds)
+                // 2. MongoDB 조회 (Redis Miss만)
+                .flatMap(cached -> {
+                    List<Long> missed = orderIds.stream()
+                            .filter(orderId -> !cached.containsKey(orderId))
+                            .distinct()
+                            .toList();
+                    if (missed.isEmpty()) {
+                        return Mono.just(cached);
+                    }
+                    
+                    log.debug("Cache MISS (Redis), trying MongoDB: count={}", missed.size());
+                    return mongoRepository.findAllByOrderIds(missed)
+                            .onErrorResume(__ -> Mono.just(Map.of()))  // 조회 실패는 찾지 못한 것으로 응답
+                            .map(stored -> {
+                                // MongoDB에서 찾았으면 Redis에 캐싱
+                                cacheToRedis(stored.values());
+                                
+                                Map<Long, OrderAggregate> projections = new HashMap<>(cached);
+                                projections.putAll(stored);
+                                return projections;
+                            });
+                })
+                .map(projections -> orderIds.stream()
+                        .distinct()
+                        .map(projections::get)
+                        .filter(Objects::nonNull)
+                        .map(OrderResponse::fromOrderAggregate)
+                        .toList());
+    }
+    
     /**
      * OrderAggregate 조회 (Internal)
      * 
@@ -206,10 +256,16 @@ public class OrderQueryService {
      * Fallback 데이터를 MongoDB에 저장 (Reactive)
      * 
      * 목적: 다음 조회 시 Fallback을 거치지 않도록
+     * 
+     * 첫 저장 버전으로 저장하므로, 그 사이 컨슈머가 먼저 문서를 만들었으면 버전 충돌로 저장하지 않고 그 문서를 유지합니다.
      */
     private Mono<Void> saveFallbackData(OrderAggregate projection) {
-        return mongoRepository.save(projection)
+        return mongoRepository.save(projection.nextVersion())
                 .doOnSuccess(__ -> log.debug("Saved fallback data to MongoDB: orderId={}", projection.getOrderId()))
+                .onErrorResume(OptimisticLockingFailureException.class, __ -> {
+                    log.debug("Projection already saved, fallback data skipped: orderId={}", projection.getOrderId());
+                    return Mono.empty();
+                })
                 .doOnError(__ -> log.warn("Failed to save fallback data: orderId={}", projection.getOrderId()))
                 .onErrorResume(__ -> Mono.empty())  // 저장 실패는 무시
                 .then();
@@ -225,5 +281,19 @@ public class OrderQueryService {
                 .onErrorResume(__ -> Mono.empty())  // 캐싱 실패는 무시
                 .subscribe();  // Fire and forget
     }
+    
+    /**
+     * MongoDB 결과를 Redis에 한 번에 캐싱 (Fire and Forget)
+     */
+    private void cacheToRedis(Collection<OrderAggregate> projections) {
+        if (projections.isEmpty()) {
+            return;
+        }
+        
+        redisRepository.saveAll(projections)
+                .doOnSuccess(saved -> log.debug("Cached to Redis: count={}", saved.size()))
+                .doOnError(e -> log.warn("Failed to cache to Redis: count={}, error={}", projections.size(), e.getMessage()))
+                .onErrorResume(__ -> Mono.empty())  // 캐싱 실패는 무시 (키별 실패는 saveAll에서 로그)
+                .subscribe();  // Fire and forget
+    }
 }
-
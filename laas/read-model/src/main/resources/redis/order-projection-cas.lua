@@ -0,0 +1,34 @@
+-- Order projection 조건부 저장
+--
+-- 저장된 값의 버전이 새 값의 버전보다 작을 때만 SET 합니다.
+-- 늦게 도착한 이전 버전(순서가 뒤바뀐 쓰기, 오래된 MongoDB 조회 결과의 캐싱)이 새 값을 덮어쓰지 않습니다.
+--
+-- KEYS[1]: projection 키
+-- ARGV[1]: 인코딩된 값
+-- ARGV[2]: 새 값의 저장 버전 (없으면 0)
+-- ARGV[3]: TTL (밀리초)
+--
+-- 반환: 1 = 저장함, 0 = 같거나 더 큰 버전이 이미 있어 저장하지 않음
+
+local current = redis.call('GET', KEYS[1])
+if current then
+    local currentVersion = 0
+    local marker = string.byte(current, 1)
+    if marker == 3 then
+        -- BINARY: marker 다음 8바이트 big-endian
+        currentVersion = struct.unpack('>i8', current, 2)
+    elseif marker == 123 then
+        -- JSON ('{')
+        local version = cjson.decode(current)['version']
+        if type(version) == 'number' then
+            currentVersion = version
+        end
+    end
+
+    if currentVersion >= tonumber(ARGV[2]) then
+        return 0
+    end
+end
+
+redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+return 1
@@ -0,0 +1,148 @@
+package vroong.laas.readmodel.common.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import vroong.laas.readmodel.common.model.OrderProjectionUpdate.Section;
+
+class OrderProjectionUpdateTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private static final OrderProjectionUpdate STARTED = OrderProjectionUpdate.builder()
+            .orderId(1L)
+            .section(Section.DELIVERY_STARTED)
+            .eventAt(100L)
+            .deliveryId(10L)
+            .deliveryAgentId(1000L)
+            .deliveryStatus("STARTED")
+            .deliveryStartedAt(NOW)
+            .updatedAt(NOW)
+            .build();
+
+    private static final OrderProjectionUpdate PICKED_UP = OrderProjectionUpdate.builder()
+            .orderId(1L)
+            .section(Section.DELIVERY_PICKED_UP)
+            .eventAt(200L)
+            .deliveryStatus("PICKED_UP")
+            .deliveryPickedUpAt(NOW.plusSeconds(60))
+            .updatedAt(NOW)
+            .build();
+
+    private static final OrderProjectionUpdate DELIVERED = OrderProjectionUpdate.builder()
+            .orderId(1L)
+            .section(Section.DELIVERY_DELIVERED)
+            .eventAt(300L)
+            .deliveryStatus("DELIVERED")
+            .deliveryDeliveredAt(NOW.plusSeconds(120))
+            .updatedAt(NOW)
+            .build();
+
+    @Test
+    void applyTo_배송_단계를_순서대로_반영한다() {
+        OrderAggregate projection = apply(order(), STARTED, PICKED_UP, DELIVERED);
+
+        assertDelivered(projection);
+    }
+
+    @Test
+    void applyTo_배송_단계가_거꾸로_도착해도_모든_단계의_필드가_남는다() {
+        OrderAggregate projection = apply(order(), DELIVERED, PICKED_UP, STARTED);
+
+        assertDelivered(projection);
+    }
+
+    @Test
+    void applyTo_앞_단계가_늦게_도착하면_상태는_바꾸지_않는다() {
+        OrderAggregate projection = apply(order(), PICKED_UP, STARTED);
+
+        assertThat(projection.getDeliveryInfo().getDeliveryStatus()).isEqualTo("PICKED_UP");
+        assertThat(projection.getDeliveryInfo().getDeliveryStartedAt()).isEqualTo(NOW);
+        assertThat(STARTED.isDeliveryStatusSupersededIn(projection)).isTrue();
+        assertThat(DELIVERED.isDeliveryStatusSupersededIn(projection)).isFalse();
+    }
+
+    @Test
+    void applyTo_같은_이벤트를_다시_반영해도_결과가_같다() {
+        OrderAggregate once = apply(order(), STARTED, PICKED_UP);
+        OrderAggregate twice = apply(once, STARTED, PICKED_UP);
+
+        assertThat(PICKED_UP.isStaleFor(once)).isFalse();
+        assertThat(twice).usingRecursiveComparison().isEqualTo(once);
+    }
+
+    @Test
+    void isStaleFor_같은_단계에_더_늦은_이벤트가_반영돼_있을_때만_true() {
+        OrderAggregate projection = apply(order(), PICKED_UP);
+        OrderProjectionUpdate earlierPickedUp = OrderProjectionUpdate.builder()
+                .orderId(1L)
+                .section(Section.DELIVERY_PICKED_UP)
+                .eventAt(150L)
+                .deliveryPickedUpAt(NOW)
+                .updatedAt(NOW)
+                .build();
+
+        assertThat(earlierPickedUp.isStaleFor(projection)).isTrue();
+        assertThat(PICKED_UP.isStaleFor(projection)).isFalse();
+        // 다른 단계의 시각과는 비교하지 않음
+        assertThat(STARTED.isStaleFor(projection)).isFalse();
+    }
+
+    @Test
+    void applyTo_주문_이벤트는_배차와_배송_정보를_유지한다() {
+        OrderAggregate projection = apply(order(), STARTED);
+        OrderAggregate reordered = OrderAggregate.builder()
+                .orderId(1L)
+                .orderInfo(OrderAggregate.OrderInfo.builder().orderNumber("ORD-1").orderStatus("UPDATED").build())
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+
+        OrderAggregate applied = OrderProjectionUpdate.ofOrder(reordered, 50L).applyTo(projection);
+
+        assertThat(applied.getOrderInfo().getOrderStatus()).isEqualTo("UPDATED");
+        assertThat(applied.getOrderEventAt()).isEqualTo(50L);
+        assertThat(applied.getDeliveryId()).isEqualTo(10L);
+        assertThat(applied.getDeliveryInfo().getDeliveryStartedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    void applyTo_주문_ID가_다르면_예외() {
+        OrderAggregate other = order().toBuilder().orderId(2L).build();
+
+        assertThatThrownBy(() -> STARTED.applyTo(other)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static OrderAggregate apply(OrderAggregate projection, OrderProjectionUpdate... updates) {
+        for (OrderProjectionUpdate update : updates) {
+            if (!update.isStaleFor(projection)) {
+                projection = update.applyTo(projection);
+            }
+        }
+        return projection;
+    }
+
+    private static void assertDelivered(OrderAggregate projection) {
+        assertThat(projection.getDeliveryId()).isEqualTo(10L);
+        assertThat(projection.getDeliveryInfo().getAgentId()).isEqualTo(1000L);
+        assertThat(projection.getDeliveryInfo().getDeliveryStatus()).isEqualTo("DELIVERED");
+        assertThat(projection.getDeliveryInfo().getDeliveryStartedAt()).isEqualTo(NOW);
+        assertThat(projection.getDeliveryInfo().getDeliveryPickedUpAt()).isEqualTo(NOW.plusSeconds(60));
+        assertThat(projection.getDeliveryInfo().getDeliveryDeliveredAt()).isEqualTo(NOW.plusSeconds(120));
+        assertThat(projection.getDeliveryStartedEventAt()).isEqualTo(100L);
+        assertThat(projection.getDeliveryPickedUpEventAt()).isEqualTo(200L);
+        assertThat(projection.getDeliveryDeliveredEventAt()).isEqualTo(300L);
+    }
+
+    private static OrderAggregate order() {
+        return OrderAggregate.builder()
+                .orderId(1L)
+                .orderInfo(OrderAggregate.OrderInfo.builder().orderNumber("ORD-1").orderStatus("CREATED").build())
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .orderEventAt(10L)
+                .build();
+    }
+}
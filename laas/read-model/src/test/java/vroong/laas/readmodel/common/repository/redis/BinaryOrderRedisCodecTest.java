@@ -0,0 +1,138 @@
+package vroong.laas.readmodel.common.repository.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import vroong.laas.readmodel.common.config.RedisConfig;
+
+class BinaryOrderRedisCodecTest {
+
+    private static final Instant ORDERED_AT = Instant.parse("2025-01-01T10:00:00.123456789Z");
+
+    private final BinaryOrderRedisCodec codec = new BinaryOrderRedisCodec();
+
+    @Test
+    void encode_decode_모든_필드를_그대로_복원한다() {
+        OrderRedisModel model = fullModel();
+
+        OrderRedisModel decoded = codec.decode(codec.encode(model));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(model);
+        assertThat(decoded.getOrderInfo().getItems().get(0).getPrice()).isEqualTo(new BigDecimal("15000.50"));
+        assertThat(decoded.getOrderInfo().getOrderedAt()).isEqualTo(ORDERED_AT);
+    }
+
+    @Test
+    void encode_decode_없는_정보와_null_필드를_복원한다() {
+        OrderRedisModel model = OrderRedisModel.builder()
+                .orderId(1L)
+                .orderInfo(OrderRedisModel.OrderInfoRedis.builder()
+                        .orderNumber("ORD-1")
+                        .build())
+                .createdAt(ORDERED_AT)
+                .build();
+
+        OrderRedisModel decoded = codec.decode(codec.encode(model));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(model);
+        assertThat(decoded.getDispatchInfo()).isNull();
+        assertThat(decoded.getDeliveryInfo()).isNull();
+        assertThat(decoded.getVersion()).isNull();
+    }
+
+    @Test
+    void encode_marker_뒤_고정_위치에_저장_버전을_쓴다() {
+        byte[] data = codec.encode(fullModel());
+
+        assertThat(data[0]).isEqualTo(OrderRedisFormat.BINARY.getMarker());
+        assertThat(ByteBuffer.wrap(data, 1, Long.BYTES).getLong()).isEqualTo(7L);
+    }
+
+    @Test
+    void detect_개발_중_쓰던_바이너리_marker는_거부한다() {
+        assertThatThrownBy(() -> OrderRedisFormat.detect(new byte[]{0x01, 0x00}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderRedisFormat.detect(new byte[]{0x02, 0x00}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void cas_스크립트는_바이너리_형식의_marker를_안다() throws IOException {
+        String script = new ClassPathResource("redis/order-projection-cas.lua")
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(script).contains("marker == " + OrderRedisFormat.BINARY.getMarker());
+    }
+
+    @Test
+    void serializer_JSON과_바이너리_값을_모두_읽는다() {
+        JsonOrderRedisCodec jsonCodec = new JsonOrderRedisCodec(new RedisConfig().redisJsonMapper());
+        OrderRedisSerializer serializer = new OrderRedisSerializer(
+                OrderRedisFormat.BINARY, List.of(codec, jsonCodec));
+        OrderRedisModel model = fullModel();
+
+        assertThat(serializer.deserialize(jsonCodec.encode(model))).usingRecursiveComparison().isEqualTo(model);
+        assertThat(serializer.deserialize(serializer.serialize(model))).usingRecursiveComparison().isEqualTo(model);
+    }
+
+    private static OrderRedisModel fullModel() {
+        return fullModelBuilder().build();
+    }
+
+    private static OrderRedisModel.OrderRedisModelBuilder fullModelBuilder() {
+        OrderRedisModel.OrderLocationRedis location = OrderRedisModel.OrderLocationRedis.builder()
+                .contactName("홍길동")
+                .contactPhoneNumber("010-0000-0000")
+                .latitude(new BigDecimal("37.1234567"))
+                .longitude(new BigDecimal("127.0000000"))
+                .jibunAddress("서울시 강남구 역삼동 1")
+                .roadAddress("서울시 강남구 테헤란로 1")
+                .detailAddress("101호")
+                .build();
+
+        return OrderRedisModel.builder()
+                .orderId(1L)
+                .dispatchId(10L)
+                .deliveryId(100L)
+                .orderInfo(OrderRedisModel.OrderInfoRedis.builder()
+                        .orderNumber("ORD-1")
+                        .orderStatus("CREATED")
+                        .originLocation(location)
+                        .destinationLocation(location)
+                        .items(List.of(
+                                OrderRedisModel.OrderItemRedis.builder()
+                                        .itemName("떡볶이").quantity(2).price(new BigDecimal("15000.50")).build(),
+                                OrderRedisModel.OrderItemRedis.builder()
+                                        .itemName("순대").quantity(1).price(new BigDecimal("-1E+3")).build()))
+                        .orderedAt(ORDERED_AT)
+                        .build())
+                .dispatchInfo(OrderRedisModel.DispatchInfoRedis.builder()
+                        .agentId(1000L)
+                        .suggestedFee(new BigDecimal("3500.00"))
+                        .dispatchedAt(ORDERED_AT.plusSeconds(60))
+                        .build())
+                .deliveryInfo(OrderRedisModel.DeliveryInfoRedis.builder()
+                        .deliveryNumber("DLV-1")
+                        .agentId(1000L)
+                        .deliveryFee(new BigDecimal("3500.00"))
+                        .deliveryStatus("PICKED_UP")
+                        .deliveryStartedAt(ORDERED_AT.plusSeconds(120))
+                        .deliveryPickedUpAt(ORDERED_AT.plusSeconds(180))
+                        .build())
+                .createdAt(ORDERED_AT)
+                .updatedAt(ORDERED_AT.plusSeconds(180))
+                .version(7L)
+                .orderEventAt(1L)
+                .dispatchEventAt(2L)
+                .deliveryStartedEventAt(3L)
+                .deliveryPickedUpEventAt(4L);
+    }
+}
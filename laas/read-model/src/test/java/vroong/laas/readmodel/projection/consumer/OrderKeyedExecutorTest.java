@@ -0,0 +1,93 @@
+package vroong.laas.readmodel.projection.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class OrderKeyedExecutorTest {
+
+    private final MessageListenerContainer container = mock(MessageListenerContainer.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OrderKeyedExecutor executor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        KafkaListenerEndpointRegistry registry = mock(KafkaListenerEndpointRegistry.class);
+        given(registry.getListenerContainers()).willReturn(List.of(container));
+        ObjectProvider<KafkaListenerEndpointRegistry> provider = mock(ObjectProvider.class);
+        given(provider.getIfAvailable()).willReturn(registry);
+
+        executor = new OrderKeyedExecutor(2, 1, 2, Duration.ofMillis(1), provider, meterRegistry);
+    }
+
+    @Test
+    void submit_한도에_닿으면_pause_하고_줄면_resume_한다() {
+        Sinks.Empty<Void> first = Sinks.empty();
+        Sinks.Empty<Void> second = Sinks.empty();
+
+        executor.submit(1L, first::asMono);
+        verify(container, never()).pause();
+
+        executor.submit(2L, second::asMono);
+        verify(container).pause();
+
+        first.tryEmitEmpty();
+        verify(container).resume();
+    }
+
+    @Test
+    void submit_같은_주문의_작업은_앞_작업이_끝난_뒤_실행한다() {
+        Sinks.Empty<Void> first = Sinks.empty();
+        AtomicInteger secondRuns = new AtomicInteger();
+
+        executor.submit(1L, first::asMono);
+        CompletableFuture<Void> second = executor.submit(1L, () -> Mono.fromRunnable(secondRuns::incrementAndGet));
+        assertThat(secondRuns).hasValue(0);
+
+        first.tryEmitEmpty();
+
+        assertThat(second).succeedsWithin(1, TimeUnit.SECONDS);
+        assertThat(secondRuns).hasValue(1);
+    }
+
+    @Test
+    void submit_실패한_작업은_재시도한다() {
+        AtomicInteger runs = new AtomicInteger();
+
+        CompletableFuture<Void> future = executor.submit(1L, () -> Mono.fromRunnable(() -> {
+            if (runs.incrementAndGet() < 3) {
+                throw new IllegalStateException("fail");
+            }
+        }));
+
+        assertThat(future).succeedsWithin(1, TimeUnit.SECONDS);
+        assertThat(runs).hasValue(3);
+        assertThat(meterRegistry.counter("readmodel.projection.failed").count()).isZero();
+    }
+
+    @Test
+    void submit_재시도_후에도_실패하면_카운트하고_정상_완료한다() {
+        CompletableFuture<Void> future = executor.submit(1L, () -> Mono.error(new IllegalStateException("fail")));
+
+        assertThat(future).succeedsWithin(1, TimeUnit.SECONDS);
+        assertThat(meterRegistry.counter("readmodel.projection.failed").count()).isEqualTo(1.0);
+    }
+}
@@ -8,4 +8,7 @@ GRANT ALL PRIVILEGES ON `order`.* TO 'laas_user'@'%';
 GRANT ALL PRIVILEGES ON `delivery`.* TO 'laas_user'@'%';
 GRANT ALL PRIVILEGES ON `dispatch`.* TO 'laas_user'@'%';
 
+-- Outbox binlog relay
+GRANT REPLICATION SLAVE, REPLICATION CLIENT ON *.* TO 'laas_user'@'%';
+
 FLUSH PRIVILEGES;
\ No newline at end of file